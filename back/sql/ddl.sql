@@ -8,7 +8,7 @@ create table member
     role        varchar(255)
         constraint member_role_check
             check ((role)::text = ANY
-        ((ARRAY ['ADMIN'::character varying, 'NOT_ALLOW'::character varying, 'ADULT'::character varying, 'NOT_ADULT'::character varying])::text[])),
+        ((ARRAY ['ADMIN'::character varying, 'NOT_ALLOW'::character varying, 'ADULT'::character varying, 'NOT_ADULT'::character varying, 'REJECTED'::character varying])::text[])),
     create_by   varchar(255),
     update_by   varchar(255),
     create_date timestamp(6),
@@ -63,6 +63,7 @@ create table required_board
     title            varchar(255),
     content          varchar(255),
     view             bigint,
+    vote_count       bigint default 0,
     upload_yn        char,
     delete_yn        char,
     create_by        varchar(255),
@@ -117,3 +118,36 @@ create table video
 alter table video
     owner to streamo;
 
+
+create index idx_notice_create_date_id
+    on notice (create_date desc, notice_id desc);
+
+create index idx_notice_update_date
+    on notice (update_date);
+
+create index idx_required_board_create_date_id
+    on required_board (create_date desc, require_board_id desc);
+
+create index idx_member_name_prefix
+    on member (name varchar_pattern_ops);
+
+create index idx_member_create_date
+    on member (create_date);
+
+create table require_board_vote
+(
+    require_board_vote_id bigint       not null
+        primary key,
+    require_board_id      bigint       not null
+        references required_board,
+    member_id             varchar(255) not null
+        references member,
+    create_date           timestamp(6),
+    constraint uk_require_board_vote_board_member
+        unique (require_board_id, member_id)
+);
+
+create sequence require_board_vote_sequence increment by 50;
+
+alter table require_board_vote
+    owner to streamo;
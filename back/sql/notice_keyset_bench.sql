@@ -0,0 +1,40 @@
+-- 공지사항 offset 페이징 / keyset 페이징 비교 (PostgreSQL)
+-- psql -d streamo -f notice_keyset_bench.sql
+-- 임시 테이블에 100만 건을 만들어 측정하므로 실제 notice 테이블은 건드리지 않는다.
+-- 결과는 아직 측정하지 않았다. (측정하면 실행 환경과 함께 여기에 기록)
+
+create temp table notice_bench (like notice including all);
+
+insert into notice_bench (notice_id, title, content, view, delete_yn, create_by, update_by, create_date, update_date)
+select g,
+       '공지사항 ' || g,
+       md5(g::text),
+       0,
+       'N',
+       'admin' || (g % 100),
+       'admin' || (g % 100),
+       timestamp '2020-01-01' + (g || ' seconds')::interval,
+       timestamp '2020-01-01' + (g || ' seconds')::interval
+from generate_series(1, 1000000) g;
+
+create index on notice_bench (create_date desc, notice_id desc);
+analyze notice_bench;
+
+-- 1. offset : 첫 페이지
+explain (analyze, buffers)
+select * from notice_bench order by create_date desc, notice_id desc limit 21 offset 0;
+
+-- 2. offset : 마지막 근처 페이지 (앞의 999,960건을 읽고 버림)
+explain (analyze, buffers)
+select * from notice_bench order by create_date desc, notice_id desc limit 21 offset 999960;
+
+-- 3. keyset : 첫 페이지
+explain (analyze, buffers)
+select * from notice_bench order by create_date desc, notice_id desc limit 21;
+
+-- 4. keyset : 마지막 근처 페이지 (직전 페이지 마지막 행 = notice_id 41)
+explain (analyze, buffers)
+select * from notice_bench
+where (create_date, notice_id) < (timestamp '2020-01-01' + interval '41 seconds', 41)
+order by create_date desc, notice_id desc
+limit 21;
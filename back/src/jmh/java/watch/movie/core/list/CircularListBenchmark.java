@@ -0,0 +1,138 @@
+package watch.movie.core.list;
+
+import org.openjdk.jmh.annotations.*;
+import watch.movie.core.list.extLinkedList.CircularDoublyLinkedList;
+import watch.movie.core.list.extLinkedList.CircularLinkedList;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * core 원형 리스트와 JDK 컬렉션의 연산별 처리량 비교 (gc 프로파일러의 gc.alloc.rate.norm = bytes/op)
+ * <ul>
+ *     <li>get / set / addRemoveAt : 가운데 index 접근 (추가 후 바로 삭제해서 크기 유지)</li>
+ *     <li>iterate : 전체 순회</li>
+ *     <li>indexOfLast : 마지막 값 검색 (전체 탐색)</li>
+ *     <li>removeItemAt : 가운데 값을 값으로 삭제한 뒤 같은 자리에 다시 추가</li>
+ *     <li>offerPoll : 뒤에 추가하고 앞에서 꺼내는 queue 사용 (ArrayDeque 포함)</li>
+ * </ul>
+ * 실행: gradle jmh -PjmhIncludes=CircularListBenchmark (10^6에서 연결 리스트의 index 접근은 op당 ms 단위)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class CircularListBenchmark {
+
+    @State(Scope.Thread)
+    public static class ListState {
+
+        @Param({"ArrayList", "LinkedList", "CircularLinkedList", "CircularDoublyLinkedList", "CircularArrayList"})
+        public String type;
+
+        @Param({"10", "1000", "100000", "1000000"})
+        public int size;
+
+        List<Integer> list;
+        int middle;
+        Integer middleValue;
+        Integer lastValue;
+
+        @Setup
+        public void setUp() {
+            list = switch (type) {
+                case "ArrayList" -> new ArrayList<>();
+                case "LinkedList" -> new LinkedList<>();
+                case "CircularLinkedList" -> new CircularLinkedList<>();
+                case "CircularDoublyLinkedList" -> new CircularDoublyLinkedList<>();
+                case "CircularArrayList" -> new CircularArrayList<>();
+                default -> throw new IllegalArgumentException(type);
+            };
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            middle = size / 2;
+            middleValue = list.get(middle);
+            lastValue = list.get(size - 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class QueueState {
+
+        @Param({"ArrayDeque", "LinkedList", "CircularLinkedList", "CircularDoublyLinkedList", "CircularArrayList"})
+        public String type;
+
+        @Param({"10", "1000", "100000", "1000000"})
+        public int size;
+
+        Deque<Integer> deque;
+        List<Integer> list;
+
+        @Setup
+        public void setUp() {
+            Collection<Integer> values = switch (type) {
+                case "ArrayDeque" -> deque = new ArrayDeque<>();
+                case "LinkedList" -> deque = new LinkedList<>();
+                case "CircularArrayList" -> deque = new CircularArrayList<>();
+                case "CircularLinkedList" -> list = new CircularLinkedList<>();
+                case "CircularDoublyLinkedList" -> list = new CircularDoublyLinkedList<>();
+                default -> throw new IllegalArgumentException(type);
+            };
+            for (int i = 0; i < size; i++) {
+                values.add(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer get(ListState state) {
+        return state.list.get(state.middle);
+    }
+
+    @Benchmark
+    public Integer set(ListState state) {
+        return state.list.set(state.middle, state.middleValue);
+    }
+
+    @Benchmark
+    public Integer addRemoveAt(ListState state) {
+        state.list.add(state.middle, state.middleValue);
+        return state.list.remove(state.middle);
+    }
+
+    @Benchmark
+    public long iterate(ListState state) {
+        long sum = 0;
+        for (Integer value : state.list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int indexOfLast(ListState state) {
+        return state.list.indexOf(state.lastValue);
+    }
+
+    @Benchmark
+    public void removeItemAt(ListState state) {
+        List<Integer> list = state.list;
+        if (list instanceof CircularLinkedList<Integer> circular) circular.removeItem(state.middleValue);
+        else if (list instanceof CircularDoublyLinkedList<Integer> circular) circular.removeItem(state.middleValue);
+        else if (list instanceof CircularArrayList<Integer> circular) circular.removeItem(state.middleValue);
+        else list.remove(state.middleValue);
+        list.add(state.middle, state.middleValue);
+    }
+
+    @Benchmark
+    public Integer offerPoll(QueueState state) {
+        if (state.deque != null) {
+            state.deque.offerLast(state.size);
+            return state.deque.pollFirst();
+        }
+        state.list.add(state.size);
+        return state.list.remove(0);
+    }
+}
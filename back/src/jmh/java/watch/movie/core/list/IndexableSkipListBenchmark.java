@@ -0,0 +1,100 @@
+package watch.movie.core.list;
+
+import org.openjdk.jmh.annotations.*;
+import watch.movie.core.list.extLinkedList.CircularDoublyLinkedList;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임의 위치 접근 / 추가 / 삭제를 {@link CircularDoublyLinkedList}와 {@link IndexableSkipList}로 비교
+ * (index는 고정 seed로 미리 뽑아 두고 차례로 사용)
+ * <ul>
+ *     <li>get : 임의 index 조회</li>
+ *     <li>addRemove : 임의 index에 추가 후 다른 임의 index 삭제 (크기 유지)</li>
+ *     <li>iterate : 전체 순회</li>
+ * </ul>
+ * 실행: gradle jmh -PjmhIncludes=IndexableSkipListBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class IndexableSkipListBenchmark {
+
+    private static final int INDEX_COUNT = 1 << 12;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private CircularDoublyLinkedList<Integer> linked;
+    private IndexableSkipList<Integer> skipList;
+    private int[] indexes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        linked = new CircularDoublyLinkedList<>();
+        skipList = new IndexableSkipList<>();
+        for (int i = 0; i < size; i++) {
+            linked.add(i);
+            skipList.add(i);
+        }
+
+        Random random = new Random(42);
+        indexes = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextIndex() {
+        return indexes[cursor++ & (INDEX_COUNT - 1)];
+    }
+
+    @Benchmark
+    public Integer getLinked() {
+        return linked.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer getSkipList() {
+        return skipList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer addRemoveLinked() {
+        return addRemove(linked);
+    }
+
+    @Benchmark
+    public Integer addRemoveSkipList() {
+        return addRemove(skipList);
+    }
+
+    @Benchmark
+    public long iterateLinked() {
+        return sum(linked);
+    }
+
+    @Benchmark
+    public long iterateSkipList() {
+        return sum(skipList);
+    }
+
+    private Integer addRemove(List<Integer> list) {
+        list.add(nextIndex(), cursor);
+        return list.remove(nextIndex());
+    }
+
+    private static long sum(List<Integer> list) {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+}
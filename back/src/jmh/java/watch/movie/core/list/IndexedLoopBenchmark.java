@@ -0,0 +1,63 @@
+package watch.movie.core.list;
+
+import org.openjdk.jmh.annotations.*;
+import watch.movie.core.list.extLinkedList.CircularDoublyLinkedList;
+import watch.movie.core.list.extLinkedList.CircularLinkedList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 리스트를 for (i...) list.get(i) 로 순회하는 비용 (op 하나 = 전체 순회)
+ * <ul>
+ *     <li>getLoop : 0부터 size - 1까지 get(i)</li>
+ *     <li>getLoopReverse : size - 1부터 0까지 get(i)</li>
+ * </ul>
+ * 실행: gradle jmh -PjmhIncludes=IndexedLoopBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class IndexedLoopBenchmark {
+
+    @Param({"CircularLinkedList", "CircularDoublyLinkedList"})
+    public String type;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = switch (type) {
+            case "CircularLinkedList" -> new CircularLinkedList<>();
+            case "CircularDoublyLinkedList" -> new CircularDoublyLinkedList<>();
+            default -> throw new IllegalArgumentException(type);
+        };
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long getLoop() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getLoopReverse() {
+        long sum = 0;
+        for (int i = list.size() - 1; i >= 0; i--) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,45 @@
+package watch.movie.core.list;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 하나의 queue에 넣고 꺼낼 때의 처리량 비교 (gc 프로파일러의 gc.alloc.rate.norm = bytes/op)
+ * 스레드마다 offer 한 번과 poll 한 번을 반복하므로 생산자와 소비자가 모두 같은 수만큼 경합한다.
+ * 실행: gradle jmh -PjmhIncludes=MpmcCircularQueueBenchmark -PjmhThreads=1 (1 / 2 / 4 / 8 / 16으로 바꿔가며 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MpmcCircularQueueBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    @Param({"MpmcCircularQueue", "ArrayBlockingQueue", "ConcurrentLinkedQueue"})
+    public String type;
+
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = switch (type) {
+            case "MpmcCircularQueue" -> new MpmcCircularQueue<>(1024);
+            case "ArrayBlockingQueue" -> new ArrayBlockingQueue<>(1024);
+            case "ConcurrentLinkedQueue" -> new ConcurrentLinkedQueue<>();
+            default -> throw new IllegalArgumentException(type);
+        };
+    }
+
+    @Benchmark
+    public Integer offerPoll() {
+        queue.offer(VALUE);
+        return queue.poll();
+    }
+}
@@ -0,0 +1,91 @@
+package watch.movie.core.list;
+
+import org.openjdk.jmh.annotations.*;
+import watch.movie.core.list.extLinkedList.CircularDoublyLinkedList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영상 id 재생 목록(long)을 boxing 리스트와 primitive 리스트로 다룰 때의 비용 비교
+ * (gc 프로파일러의 gc.alloc.rate.norm = bytes/op)
+ * <ul>
+ *     <li>nextTrack : 맨 앞 id를 꺼내 맨 뒤로 보냄 (순환 재생)</li>
+ *     <li>sum : 전체 순회</li>
+ * </ul>
+ * 실행: gradle jmh -PjmhIncludes=PrimitiveCircularListBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PrimitiveCircularListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private CircularDoublyLinkedList<Long> boxedLinked;
+    private CircularArrayList<Long> boxedArray;
+    private LongCircularList primitive;
+
+    @Setup
+    public void setUp() {
+        boxedLinked = new CircularDoublyLinkedList<>();
+        boxedArray = new CircularArrayList<>();
+        primitive = new LongCircularList();
+        for (long id = 1_000_000; id < 1_000_000 + size; id++) {
+            boxedLinked.add(id);
+            boxedArray.add(id);
+            primitive.add(id);
+        }
+    }
+
+    @Benchmark
+    public Long nextTrackBoxedLinked() {
+        Long id = boxedLinked.remove(0);
+        boxedLinked.add(id);
+        return id;
+    }
+
+    @Benchmark
+    public Long nextTrackBoxedArray() {
+        Long id = boxedArray.pollFirst();
+        boxedArray.addLast(id);
+        return id;
+    }
+
+    @Benchmark
+    public long nextTrackPrimitive() {
+        long id = primitive.removeFirst();
+        primitive.addLast(id);
+        return id;
+    }
+
+    @Benchmark
+    public long sumBoxedLinked() {
+        long sum = 0;
+        for (Long id : boxedLinked) {
+            sum += id;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBoxedArray() {
+        long sum = 0;
+        for (int i = 0; i < boxedArray.size(); i++) {
+            sum += boxedArray.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        for (int i = 0; i < primitive.size(); i++) {
+            sum += primitive.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,105 @@
+package watch.movie.core.list;
+
+import org.openjdk.jmh.annotations.*;
+import watch.movie.core.list.extLinkedList.CircularDoublyLinkedList;
+import watch.movie.core.list.extLinkedList.UnrolledCircularLinkedList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원소마다 노드를 만드는 {@link CircularDoublyLinkedList}와 노드에 배열을 담는 {@link UnrolledCircularLinkedList} 비교
+ * (gc 프로파일러의 gc.alloc.rate.norm = bytes/op)
+ * <ul>
+ *     <li>build : 빈 리스트에 size개 추가, bytes/op를 size로 나누면 원소당 메모리 (원소 객체는 미리 만들어 둠)</li>
+ *     <li>iterate : 전체 순회</li>
+ *     <li>get : 가운데 index 조회</li>
+ *     <li>addRemoveMiddle : 가운데 추가 후 삭제</li>
+ * </ul>
+ * 실행: gradle jmh -PjmhIncludes=UnrolledCircularListBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class UnrolledCircularListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Integer[] values;
+    private CircularDoublyLinkedList<Integer> linked;
+    private UnrolledCircularLinkedList<Integer> unrolled;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[size];
+        linked = new CircularDoublyLinkedList<>();
+        unrolled = new UnrolledCircularLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+            linked.add(values[i]);
+            unrolled.add(values[i]);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> buildLinked() {
+        CircularDoublyLinkedList<Integer> list = new CircularDoublyLinkedList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> buildUnrolled() {
+        UnrolledCircularLinkedList<Integer> list = new UnrolledCircularLinkedList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long iterateLinked() {
+        long sum = 0;
+        for (Integer value : linked) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateUnrolled() {
+        long sum = 0;
+        for (Integer value : unrolled) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer getLinked() {
+        return linked.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer getUnrolled() {
+        return unrolled.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer addRemoveMiddleLinked() {
+        linked.add(size / 2, values[0]);
+        return linked.remove(size / 2);
+    }
+
+    @Benchmark
+    public Integer addRemoveMiddleUnrolled() {
+        unrolled.add(size / 2, values[0]);
+        return unrolled.remove(size / 2);
+    }
+}
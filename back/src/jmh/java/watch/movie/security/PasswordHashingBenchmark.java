@@ -0,0 +1,93 @@
+package watch.movie.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 중의 로그인 처리량과 일반 API 지연 비교
+ * <ul>
+ *     <li>isolated : 해시를 PasswordHashingService의 고정 스레드풀에서 계산</li>
+ *     <li>inline : 해시를 요청 스레드에서 직접 계산 (기존 방식과 같은 배치)</li>
+ * </ul>
+ * login 스레드 8개가 쉬지 않고 로그인을 시도하는 동안 api 스레드 2개의 지연(p50/p99)을 SampleTime으로 측정한다.
+ * 로그인 처리량은 login 항목의 샘플 수로 비교한다. (스레드 수는 -tg 옵션으로 변경)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final int COST = 10;
+    private static final String PASSWORD = "password-1234";
+
+    @State(Scope.Group)
+    public static class Hashing {
+        @Param({"2"})
+        int threads;
+
+        PasswordHashingService service;
+        BCryptPasswordEncoder bcrypt;
+        String encoded;
+
+        @Setup
+        public void setUp() {
+            service = new PasswordHashingService(threads, 64, COST, 10_000, 1);
+            bcrypt = new BCryptPasswordEncoder(COST);
+            encoded = bcrypt.encode(PASSWORD);
+        }
+
+        @TearDown
+        public void tearDown() {
+            service.shutdown();
+        }
+    }
+
+    @Benchmark
+    @Group("isolated")
+    @GroupThreads(8)
+    public boolean isolatedLogin(Hashing hashing) {
+        try {
+            return hashing.service.matches(PASSWORD, hashing.encoded);
+        } catch (AuthenticationServiceException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("isolated")
+    @GroupThreads(2)
+    public void isolatedApi(Blackhole blackhole) {
+        api(blackhole);
+    }
+
+    @Benchmark
+    @Group("inline")
+    @GroupThreads(8)
+    public boolean inlineLogin(Hashing hashing) {
+        return hashing.bcrypt.matches(PASSWORD, hashing.encoded);
+    }
+
+    @Benchmark
+    @Group("inline")
+    @GroupThreads(2)
+    public void inlineApi(Blackhole blackhole) {
+        api(blackhole);
+    }
+
+    /**
+     * 일반 API 요청 하나를 흉내내는 짧은 CPU 작업
+     */
+    private static void api(Blackhole blackhole) {
+        StringBuilder sb = new StringBuilder(256);
+        for (int i = 0; i < 32; i++) {
+            sb.append("{\"id\":").append(i).append('}');
+        }
+        blackhole.consume(sb.toString());
+    }
+}
@@ -0,0 +1,40 @@
+package watch.movie.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 호출 한도 확인 처리량 (ops/s, 스레드 수는 -t 옵션으로 변경)
+ * 사용자 수보다 테이블이 충분히 큰 경우와, 테이블보다 사용자가 많아 bucket이 계속 밀려나는 경우를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBucketTableBenchmark {
+
+    @Param({"1000", "200000"})
+    int members;
+
+    private TokenBucketTable table;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        table = new TokenBucketTable(65536, 10_000, 10_000, 600_000);
+        keys = new String[members];
+        for (int i = 0; i < members; i++) {
+            keys[i] = "member-" + i;
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        return table.tryAcquire(key, 1, System.currentTimeMillis());
+    }
+}
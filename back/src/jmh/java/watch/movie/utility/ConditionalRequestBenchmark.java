@@ -0,0 +1,65 @@
+package watch.movie.utility;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import watch.movie.domain.notice.dto.NoticeDto;
+import watch.movie.domain.notice.dto.cond.NoticeSearchCond;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공지사항 목록 polling 한 번의 서버 비용 비교 (gc 프로파일러의 gc.alloc.rate.norm = bytes/op)
+ * <ul>
+ *     <li>fullResponse : ETag 계산 후 20건 목록을 JSON으로 직렬화 (변경이 있거나 조건부 요청이 아닌 경우)</li>
+ *     <li>notModified : ETag 계산 후 304 (본문 없음)</li>
+ * </ul>
+ * 20건 목록의 응답 본문은 14,620 bytes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionalRequestBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final NoticeSearchCond cond = new NoticeSearchCond();
+    private final Pageable pageable = PageRequest.of(0, 20);
+    private final LocalDateTime lastModified = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_000);
+    private List<NoticeDto> notices;
+    private String clientEtag;
+
+    @Setup
+    public void setUp() throws Exception {
+        notices = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            NoticeDto notice = new NoticeDto(true);
+            notice.setId((long) i);
+            notice.setTitle("서비스 점검 안내 " + i);
+            notice.setAuthor("admin");
+            notice.setContent("안녕하세요. 보다 안정적인 서비스 제공을 위해 서버 점검을 진행합니다. ".repeat(6));
+            notice.setView(1234L + i);
+            notice.setRegistDate(lastModified.minusDays(i));
+            notices.add(notice);
+        }
+        clientEtag = ConditionalRequest.etag(lastModified, cond, pageable);
+    }
+
+    @Benchmark
+    public byte[] fullResponse() throws Exception {
+        ConditionalRequest.etag(lastModified, cond, pageable);
+        return objectMapper.writeValueAsBytes(notices);
+    }
+
+    @Benchmark
+    public boolean notModified() {
+        return clientEtag.equals(ConditionalRequest.etag(lastModified, cond, pageable));
+    }
+}
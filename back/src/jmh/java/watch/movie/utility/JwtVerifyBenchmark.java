@@ -0,0 +1,51 @@
+package watch.movie.utility;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import watch.movie.entity.Member;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 검증 비용 비교 (ns/op, gc 프로파일러의 gc.alloc.rate.norm = bytes/op)
+ * <ul>
+ *     <li>jjwtParse : 기존 JwtUtil이 호출하던 JJWT parseClaimsJws</li>
+ *     <li>fastVerify : JwtUtil.verifyToken (전용 검증기 + JJWT fallback)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil.init(SECRET);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = JwtUtil.createJwtToken(Member.of("benchmark", "벤치마크", "password", "19900101"));
+    }
+
+    @Benchmark
+    public Object jjwtParse() {
+        Claims claims = Jwts.parserBuilder().setSigningKey(key)
+                .build().parseClaimsJws(token).getBody();
+        return claims.get("loginId");
+    }
+
+    @Benchmark
+    public Object fastVerify() {
+        return JwtUtil.verifyToken(token).getLoginId();
+    }
+}
@@ -0,0 +1,61 @@
+package watch.movie.base;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * keyset 페이징의 기준이 되는 (등록일시, id)
+ * 클라이언트에는 내용을 알 수 없는 문자열 토큰으로 전달한다. (등록일시는 DB 정밀도인 마이크로초 단위)
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '.';
+
+    private final LocalDateTime date;
+    private final Long id;
+
+    /**
+     * 토큰 문자열로 변환
+     */
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), date);
+        String raw = Long.toString(micros, 36) + SEPARATOR + Long.toString(id, 36);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static String encode(LocalDateTime date, Long id) {
+        return new KeysetCursor(date, id).encode();
+    }
+
+    /**
+     * 토큰 문자열을 해석
+     * @param token 클라이언트가 전달한 토큰 (첫 페이지면 비어있음)
+     * @return 첫 페이지거나 형식이 잘못된 토큰이면 null
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) return null;
+
+            long micros = Long.parseLong(raw, 0, separator, 36);
+            long id = Long.parseLong(raw, separator + 1, raw.length(), 36);
+            LocalDateTime date = LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+            return new KeysetCursor(date, id);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -11,4 +11,6 @@ public enum RoleCode {
     ADULT,
     @JsonProperty("NOT_ADULT")
     NOT_ADULT,
+    @JsonProperty("REJECTED")
+    REJECTED,
 }
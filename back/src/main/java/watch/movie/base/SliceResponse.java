@@ -0,0 +1,38 @@
+package watch.movie.base;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 건수 없이 다음 페이지 존재 여부만 알려주는 페이지 응답
+ * 요청한 개수보다 1건 더 조회해서 hasNext를 판단하므로 COUNT 쿼리가 필요 없다.
+ */
+@Getter
+public class SliceResponse<T> {
+
+    private final List<T> content;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private SliceResponse(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @param rows size + 1건까지 조회한 결과
+     * @param size 요청한 페이지 크기
+     * @param cursorOf 마지막 항목으로 다음 페이지 토큰을 만드는 함수
+     */
+    public static <T> SliceResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new SliceResponse<>(rows, false, null);
+        }
+
+        List<T> content = rows.subList(0, size);
+        return new SliceResponse<>(content, true, cursorOf.apply(content.get(size - 1)));
+    }
+}
@@ -11,12 +11,18 @@ public enum StatusCode {
     SUCCESS(HttpStatus.OK.value(), "C_200", "성공"),
     NOT_FOUND(HttpStatus.NOT_FOUND.value(), "C_404", "페이지를 찾을 수 없습니다."),
     BOARD_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "C_404", "해당 게시글을 찾을 수 없습니다."),
+    LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED.value(), "C_401", "로그인이 필요합니다."),
 
     /**
      * 회원
      */
     DUPLICATED_ID(HttpStatus.BAD_REQUEST.value(), "C_400", "중복된 아이디가 존재합니다."),
-    USER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "C_404", "해당 유저가 존재하지 않습니다.");
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "C_404", "해당 유저가 존재하지 않습니다."),
+
+    /**
+     * 메뉴
+     */
+    MENU_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "C_404", "해당 메뉴가 존재하지 않습니다.");
 
     /**
      * 커스텀해서 사용할 변수들
@@ -18,6 +18,7 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import watch.movie.base.RoleCode;
 import watch.movie.security.*;
 
 import java.util.Arrays;
@@ -43,6 +44,10 @@ public class SecurityConfig {
     private final DevstatLoginAuthenticationEntryPoint profileAuthenticationEntryPoint;
     private final AuthenticationConfiguration authenticationConfiguration;
     private final DevstatAccessDeniedHandler devstatAccessDeniedHandler;
+    private final LoginThrottle loginThrottle;
+    private final DevstatLogoutSuccessHandler devstatLogoutSuccessHandler;
+    private final ApiRateLimiter apiRateLimiter;
+    private final JsonResponseWriter jsonResponseWriter;
 
     /**
      * Spring Security 설정
@@ -51,6 +56,7 @@ public class SecurityConfig {
      *     <li>`/admin/**` 페이지만 인증 필요하게 설정</li>
      *     <li>로그인 성공시 `/`로 이동</li>
      *     <li>로그아웃시 세션삭제 및 쿠키삭제</li>
+     *     <li>JWT 인증 후 사용자별 호출 한도 확인</li>
      * </ul>
      */
     @Bean
@@ -62,12 +68,17 @@ public class SecurityConfig {
                 .authorizeHttpRequests(requests -> requests
                         //특정 패턴의 URL 인증이 필요함을 표시(authenticated())
 //                        .requestMatchers(HttpMethod.POST).authenticated()
+                        //메뉴 관리는 관리자만 가능
+                        .requestMatchers("/menu", "/menu/**").hasAuthority(RoleCode.ADMIN.name())
+                        //회원 목록 / 내보내기는 관리자만 가능
+                        .requestMatchers("/members", "/members/**").hasAuthority(RoleCode.ADMIN.name())
                         .requestMatchers(HttpMethod.DELETE).authenticated()
                         .requestMatchers(HttpMethod.PUT).authenticated()
                          //나머지 요청은 전부 허용
                         .anyRequest().permitAll()
                 )
                 .addFilterBefore(jwtAuthorizationFilter(), BasicAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter(), JwtAuthorizationFilter.class)
                 .sessionManagement(sesssion -> sesssion.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(ajaxAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(config -> config
@@ -75,7 +86,7 @@ public class SecurityConfig {
                         .accessDeniedHandler(devstatAccessDeniedHandler))
                 .logout(logout -> logout.logoutUrl("/logout")
                         .addLogoutHandler(new DevstatLogoutHandler())
-                        .logoutSuccessHandler(new DevstatLogoutSuccessHandler()));
+                        .logoutSuccessHandler(devstatLogoutSuccessHandler));
 
         return httpSecurity.build();
     }
@@ -86,6 +97,7 @@ public class SecurityConfig {
         devstatAuthenticateionFilter.setAuthenticationManager(authenticationConfiguration.getAuthenticationManager());
         devstatAuthenticateionFilter.setAuthenticationSuccessHandler(devstatAuthenticationSuccessHandler);
         devstatAuthenticateionFilter.setAuthenticationFailureHandler(devstatAuthenticationFailureHandler);
+        devstatAuthenticateionFilter.setLoginThrottle(loginThrottle);
         devstatAuthenticateionFilter.afterPropertiesSet();
         return devstatAuthenticateionFilter;
     }
@@ -94,6 +106,11 @@ public class SecurityConfig {
         return new JwtAuthorizationFilter();
     }
 
+    @Bean
+    RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(apiRateLimiter, jsonResponseWriter);
+    }
+
     @Bean
     public CorsConfigurationSource corsFilter() {
         CorsConfiguration config = new CorsConfiguration();
@@ -0,0 +1,164 @@
+package watch.movie.core.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * TTL과 최대 개수가 정해진 read-through 캐시
+ * <ul>
+ *     <li>같은 key를 동시에 조회하면 한 스레드만 loader를 실행하고 나머지는 그 결과를 기다린다.</li>
+ *     <li>로딩 중에 {@link #invalidate(Object)}된 key는 로딩이 끝나도 캐시에 남지 않는다.</li>
+ *     <li>최대 개수를 넘으면 먼저 적재된 항목부터 제거한다.</li>
+ *     <li>loader가 null을 반환하거나 예외가 발생하면 캐시하지 않는다.</li>
+ * </ul>
+ * loader 안에서 같은 key를 다시 조회하면 자기 자신을 기다리게 되므로 주의
+ */
+public class BoundedLoadingCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<K, V>> map = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry<K, V>> loadOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    public BoundedLoadingCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    BoundedLoadingCache(int maximumSize, Duration ttl, LongSupplier nanoTime) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize : " + maximumSize);
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("ttl : " + ttl);
+
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료되었으면 loader로 적재
+     * @return loader가 null을 반환했으면 null
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        while (true) {
+            Entry<K, V> entry = map.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(nanoTime.getAsLong())) return entry.await();
+                map.remove(key, entry);
+                continue;
+            }
+
+            Entry<K, V> created = new Entry<>(key);
+            if (map.putIfAbsent(key, created) == null) {
+                return load(created, loader);
+            }
+        }
+    }
+
+    /**
+     * 캐시된 값이 있으면 update 결과로 교체 (만료 시간과 적재 순서는 유지)
+     * 로딩 중인 key는 교체 전 값을 읽고 있을 수 있으므로 제거한다.
+     */
+    public void computeIfPresent(K key, UnaryOperator<V> update) {
+        map.computeIfPresent(key, (k, entry) -> {
+            if (!entry.future.isDone()) return null;
+            V value = entry.value;
+            if (value != null) entry.value = update.apply(value);
+            return entry;
+        });
+    }
+
+    /**
+     * key를 캐시에서 제거 (로딩 중이면 결과를 캐시하지 않음)
+     */
+    public void invalidate(K key) {
+        map.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 key를 모두 제거
+     */
+    public void invalidateIf(Predicate<? super K> condition) {
+        map.keySet().removeIf(condition);
+    }
+
+    public void invalidateAll() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private V load(Entry<K, V> entry, Function<? super K, ? extends V> loader) {
+        V value;
+        try {
+            value = loader.apply(entry.key);
+        } catch (RuntimeException | Error e) {
+            map.remove(entry.key, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+
+        if (value == null) {
+            map.remove(entry.key, entry);
+        } else {
+            entry.expiresAt = nanoTime.getAsLong() + ttlNanos;
+            loadOrder.add(entry);
+            queued.incrementAndGet();
+            evict();
+        }
+        entry.value = value;
+        entry.future.complete(value);
+        return value;
+    }
+
+    /**
+     * 최대 개수를 넘었거나, 무효화된 항목이 대기열에 많이 쌓였으면 오래된 항목부터 정리
+     */
+    private void evict() {
+        while (map.size() > maximumSize || queued.get() > maximumSize * 2) {
+            Entry<K, V> oldest = loadOrder.poll();
+            if (oldest == null) return;
+            queued.decrementAndGet();
+            map.remove(oldest.key, oldest);
+        }
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        // 로딩이 끝난 뒤 computeIfPresent로 교체될 수 있으므로 future의 결과 대신 사용
+        private volatile V value;
+        // 로딩이 끝나기 전에는 만료되지 않음
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+
+        private boolean isExpired(long now) {
+            long expires = expiresAt;
+            return expires != Long.MAX_VALUE && now - expires >= 0;
+        }
+
+        private V await() {
+            try {
+                future.join();
+                return value;
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                if (e.getCause() instanceof Error cause) throw cause;
+                throw e;
+            }
+        }
+    }
+}
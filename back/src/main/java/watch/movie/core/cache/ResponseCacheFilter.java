@@ -0,0 +1,248 @@
+package watch.movie.core.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 조회되고 사용자마다 같은 GET 응답을 최종 바이트로 캐시하는 필터
+ * <ul>
+ *     <li>key : 경로 + 정렬된 파라미터 + 권한</li>
+ *     <li>값 : 응답 JSON 바이트와 미리 압축한 gzip 바이트, 헤더(Content-Type, ETag 등)</li>
+ *     <li>캐시에 있으면 controller를 거치지 않고 바이트를 그대로 출력하고, If-None-Match가 같으면 304</li>
+ *     <li>같은 key를 동시에 조회하면 한 요청만 controller를 실행</li>
+ * </ul>
+ * 도메인 변경시 {@link #invalidate(String)}로 경로 단위 무효화하고, 무효화되지 않아도 TTL이 지나면 다시 만든다. (조회수 등)
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String ANONYMOUS = "ANONYMOUS";
+    private static final String GZIP = "gzip";
+
+    private final BoundedLoadingCache<String, CachedResponse> cache;
+    private final Set<String> paths;
+
+    public ResponseCacheFilter(@Value("${custom.response-cache.paths:/notices}") List<String> paths,
+                               @Value("${custom.response-cache.maximum-size:256}") int maximumSize,
+                               @Value("${custom.response-cache.ttl-seconds:10}") long ttlSeconds) {
+        this.paths = Set.copyOf(paths);
+        this.cache = new BoundedLoadingCache<>(maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * 경로의 캐시된 응답을 모두 제거 (파라미터, 권한 무관)
+     */
+    public void invalidate(String path) {
+        String prefix = path + "?";
+        cache.invalidateIf(key -> key.startsWith(prefix));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // 캐시에서 꺼낸 응답은 Accept-Encoding에 따라 본문이 달라지므로, controller가 만드는 응답에도 같은 Vary를 붙임
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        boolean[] rendered = {false};
+        CachedResponse cached;
+        try {
+            cached = cache.get(key(request), key -> {
+                rendered[0] = true;
+                return render(request, response, chain);
+            });
+        } catch (RuntimeException e) {
+            // 직접 실행한 요청이면 예외를 그대로 전달하고, 다른 요청의 결과를 기다렸으면 직접 실행
+            if (!rendered[0]) {
+                chain.doFilter(request, response);
+                return;
+            }
+            if (e instanceof RenderException render) render.rethrow();
+            throw e;
+        }
+
+        if (rendered[0]) return;
+        if (cached == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        cached.writeTo(request, response);
+    }
+
+    /**
+     * controller를 실행해서 응답하고, 캐시할 수 있는 응답이면 바이트를 만들어 반환
+     */
+    private CachedResponse render(HttpServletRequest request, HttpServletResponse response, FilterChain chain) {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+
+            CachedResponse cached = null;
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())) {
+                cached = CachedResponse.of(wrapper);
+            }
+            wrapper.copyBodyToResponse();
+            return cached;
+        } catch (IOException | ServletException e) {
+            throw new RenderException(e);
+        }
+    }
+
+    /**
+     * 경로?정렬된 파라미터#권한
+     */
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            for (String value : values) {
+                if (value == null || value.isBlank()) continue;
+                key.append(name).append('=').append(value.trim()).append('&');
+            }
+        });
+        return key.append('#').append(role()).toString();
+    }
+
+    private static String role() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) return ANONYMOUS;
+
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return role.isEmpty() ? ANONYMOUS : role;
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    /**
+     * Accept-Encoding에서 gzip의 q 값이 0보다 큰지 확인 (gzip이 없으면 * 의 q 값, 둘 다 없으면 압축하지 않음)
+     * 예) "gzip, deflate" true, "gzip;q=0" false, "*;q=0.5" true, "*, gzip;q=0" false
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        double gzip = -1;
+        double any = -1;
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers.hasMoreElements()) {
+            for (String encoding : headers.nextElement().split(",")) {
+                String[] params = encoding.split(";");
+                String coding = params[0].trim().toLowerCase(Locale.ROOT);
+                double quality = 1;
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.regionMatches(true, 0, "q=", 0, 2)) quality = quality(param.substring(2));
+                }
+
+                if (coding.equals(GZIP)) gzip = Math.max(gzip, quality);
+                else if (coding.equals("*")) any = Math.max(any, quality);
+            }
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    /**
+     * q 값 해석 (형식이 잘못되면 허용하지 않는 것으로 봄)
+     */
+    private static double quality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class CachedResponse {
+        private static final List<String> HEADERS =
+                List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+
+        private final String contentType;
+        private final Map<String, String> headers;
+        private final String etag;
+        private final byte[] identity;
+        private final byte[] gzip;
+
+        private CachedResponse(String contentType, Map<String, String> headers, byte[] identity, byte[] gzip) {
+            this.contentType = contentType;
+            this.headers = headers;
+            this.etag = headers.get(HttpHeaders.ETAG);
+            this.identity = identity;
+            this.gzip = gzip;
+        }
+
+        private static CachedResponse of(ContentCachingResponseWrapper response) throws IOException {
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (String name : HEADERS) {
+                String value = response.getHeader(name);
+                if (value != null) headers.put(name, value);
+            }
+
+            byte[] identity = response.getContentAsByteArray();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(identity);
+            }
+            // 압축해도 작아지지 않으면 원본만 사용
+            byte[] gzip = compressed.size() < identity.length ? compressed.toByteArray() : null;
+            return new CachedResponse(response.getContentType(), headers, identity, gzip);
+        }
+
+        private void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            headers.forEach(response::setHeader);
+
+            if (etag != null && etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            byte[] body = identity;
+            if (gzip != null && acceptsGzip(request)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                body = gzip;
+            }
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * loader 안에서 발생한 checked 예외 전달용
+     */
+    private static final class RenderException extends RuntimeException {
+        private RenderException(Exception cause) {
+            super(cause);
+        }
+
+        private void rethrow() throws IOException, ServletException {
+            if (getCause() instanceof IOException io) throw io;
+            throw (ServletException) getCause();
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package watch.movie.core.list;
+
+import java.util.*;
+
+/**
+ * 크기가 늘어나는 원형 배열 기반의 List / Deque
+ * <p>
+ * 논리적 index 0의 위치(head)만 옮겨서 양 끝의 추가 / 삭제와 index 접근을 모두 O(1)로 처리한다.
+ * 중간 위치의 추가 / 삭제는 가까운 쪽 끝까지의 원소만 한 칸씩 옮긴다.
+ * 배열 길이는 항상 2의 거듭제곱이며, index 변환은 나머지 연산 대신 mask를 사용한다.
+ * <p>
+ * 구조가 바뀌면 modCount가 증가하므로 iterator는 fail-fast로 동작한다. null 원소를 허용하고 동기화하지 않는다.
+ * @param <E> Object
+ */
+public class CircularArrayList<E>
+        extends AbstractList<E>
+        implements List<E>, Deque<E>, RandomAccess, java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity 처음 배열 크기 (2의 거듭제곱으로 올림)
+     */
+    public CircularArrayList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity : " + initialCapacity);
+
+        elements = new Object[capacityFor(initialCapacity)];
+    }
+
+    public CircularArrayList(Collection<? extends E> values) {
+        this(values.size());
+        for (E value : values) {
+            elements[size++] = value;
+        }
+    }
+
+    /**
+     * 특정 Index의 값을 반환
+     * @param index index of the element to return
+     * @return get index value
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt(physical(index));
+    }
+
+    /**
+     * 특정 Index의 데이터를 수정
+     * @param index index of the element to replace
+     * @param value element to be stored at the specified position
+     * @return 이전 값
+     */
+    @Override
+    public E set(int index, E value) {
+        Objects.checkIndex(index, size);
+        int slot = physical(index);
+        E old = elementAt(slot);
+        elements[slot] = value;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 마지막에 데이터 추가
+     * @param value element whose presence in this collection is to be ensured
+     * @return 항상 true
+     */
+    @Override
+    public boolean add(E value) {
+        addLast(value);
+        return true;
+    }
+
+    /**
+     * 특정 Index에 데이터를 추가, 가까운 쪽 끝의 원소를 한 칸씩 밀어낸다.
+     * @param index index at which the specified element is to be inserted
+     * @param value element to be inserted
+     */
+    @Override
+    public void add(int index, E value) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            addLast(value);
+            return;
+        }
+        if (index == 0) {
+            addFirst(value);
+            return;
+        }
+
+        ensureCapacity(size + 1);
+        int mask = elements.length - 1;
+        if (index < size - index) {
+            // 앞쪽 index개를 왼쪽으로 한 칸
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        } else {
+            // 뒤쪽 size - index개를 오른쪽으로 한 칸
+            for (int i = size; i > index; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+        }
+        elements[(head + index) & mask] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * 특정 Index의 데이터 삭제, 가까운 쪽 끝의 원소를 한 칸씩 당긴다.
+     * @param index the index of the element to be removed
+     * @return deleted data
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        int mask = elements.length - 1;
+        E removed = elementAt((head + index) & mask);
+
+        if (index < size - 1 - index) {
+            // 앞쪽 index개를 오른쪽으로 한 칸
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // 뒤쪽 size - 1 - index개를 왼쪽으로 한 칸
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * 특정 value를 찾아 처음 나오는 데이터 삭제
+     * @param value 삭제할 value
+     * @return success true, fail false
+     */
+    public boolean removeItem(E value) {
+        return removeFirstOccurrence(value);
+    }
+
+    /**
+     * 원소를 순서대로 distance만큼 뒤로 회전 ({@link Collections#rotate(List, int)}와 같은 결과)
+     * 배열이 가득 차 있으면 head만 옮기므로 O(1)이고, 아니면 가까운 방향으로 min(distance, size - distance)개만 옮긴다.
+     * @param distance 음수면 앞으로 회전
+     */
+    public void rotate(int distance) {
+        if (size <= 1) return;
+
+        int shift = Math.floorMod(distance, size);
+        if (shift == 0) return;
+
+        int mask = elements.length - 1;
+        if (size == elements.length) {
+            head = (head - shift) & mask;
+        } else if (shift <= size - shift) {
+            // 마지막 shift개를 앞으로
+            for (int i = 0; i < shift; i++) {
+                int last = (head + size - 1) & mask;
+                head = (head - 1) & mask;
+                elements[head] = elements[last];
+                elements[last] = null;
+            }
+        } else {
+            // 처음 size - shift개를 뒤로
+            for (int i = 0; i < size - shift; i++) {
+                elements[(head + size) & mask] = elements[head];
+                elements[head] = null;
+                head = (head + 1) & mask;
+            }
+        }
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(value, elements[(head + i) & mask])) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object value) {
+        int mask = elements.length - 1;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(value, elements[(head + i) & mask])) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * 해당 List를 전부 삭제
+     */
+    @Override
+    public void clear() {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] copy = new Object[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, copy, 0, firstPart);
+        System.arraycopy(elements, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    // ---------------------------------------------------------------- Deque
+
+    @Override
+    public void addFirst(E value) {
+        ensureCapacity(size + 1);
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E value) {
+        ensureCapacity(size + 1);
+        elements[physical(size)] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean offerFirst(E value) {
+        addFirst(value);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E value) {
+        addLast(value);
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return pollFirst();
+    }
+
+    @Override
+    public E removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return pollLast();
+    }
+
+    @Override
+    public E pollFirst() {
+        if (size == 0) return null;
+
+        E value = elementAt(head);
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        modCount++;
+        return value;
+    }
+
+    @Override
+    public E pollLast() {
+        if (size == 0) return null;
+
+        int slot = physical(size - 1);
+        E value = elementAt(slot);
+        elements[slot] = null;
+        size--;
+        modCount++;
+        return value;
+    }
+
+    @Override
+    public E getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return elementAt(head);
+    }
+
+    @Override
+    public E getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return elementAt(physical(size - 1));
+    }
+
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : elementAt(head);
+    }
+
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : elementAt(physical(size - 1));
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object value) {
+        int index = indexOf(value);
+        if (index < 0) return false;
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object value) {
+        int index = lastIndexOf(value);
+        if (index < 0) return false;
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        return removeFirstOccurrence(value);
+    }
+
+    @Override
+    public boolean offer(E value) {
+        return offerLast(value);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E value) {
+        addFirst(value);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * 뒤에서부터 읽는 iterator (fail-fast)
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        ListIterator<E> iterator = listIterator(size);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    // ---------------------------------------------------------------- 내부
+
+    private int physical(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) elements[slot];
+    }
+
+    /**
+     * 배열 크기를 두 배로 늘리면서 head를 0으로 정렬
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) return;
+        if (elements.length == MAX_CAPACITY) throw new IllegalStateException("capacity : " + minCapacity);
+
+        Object[] grown = new Object[capacityFor(minCapacity)];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity <= DEFAULT_CAPACITY) return DEFAULT_CAPACITY;
+        if (minCapacity > MAX_CAPACITY) return MAX_CAPACITY;
+        return Integer.highestOneBit(minCapacity - 1) << 1;
+    }
+}
@@ -0,0 +1,364 @@
+package watch.movie.core.list;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순서(index)로 찾는 skip list
+ * <p>
+ * 정렬 기준 없이 들어온 위치 그대로 원소를 저장하고, 층마다 앞으로 가는 연결에 건너뛰는 원소 수(width)를 함께 둔다.
+ * 위층부터 width를 더해가며 내려오므로 get / set / add / remove 모두 index에 대해 O(log n)이다.
+ * <p>
+ * 모든 층은 더미 헤드에서 시작해 더미 헤드로 돌아오는 원형이고, 맨 아래 층은 prev도 가진 원형 이중 연결이라
+ * {@link watch.movie.core.list.extLinkedList.CircularDoublyLinkedList}와 같은 순서로 순회한다.
+ * 구조가 바뀌면 modCount가 증가하므로 iterator는 fail-fast로 동작한다. null 원소를 허용하고 동기화하지 않는다.
+ * @param <E> Object
+ */
+public class IndexableSkipList<E>
+        extends AbstractSequentialList<E>
+        implements List<E>, java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    /** 층이 올라갈 확률 1/4 기준으로 4^16개까지 충분한 높이 */
+    static final int MAX_LEVEL = 16;
+
+    private final Node<E> head = new Node<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    /** add / remove에서 층별 직전 노드와 그 위치를 담는 작업용 배열 */
+    private final Node<E>[] update = newNodeArray();
+    private final int[] rank = new int[MAX_LEVEL];
+
+    public IndexableSkipList() {
+        clear();
+    }
+
+    public IndexableSkipList(Collection<? extends E> values) {
+        this();
+        addAll(values);
+    }
+
+    /**
+     * 특정 Index의 data 반환
+     * @param index index of the element to return
+     * @return data
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return getNode(index).item;
+    }
+
+    /**
+     * 특정 Index의 데이터 수정
+     * @param index index of the element to replace
+     * @param value element to be stored at the specified position
+     * @return 이전 값
+     */
+    @Override
+    public E set(int index, E value) {
+        Objects.checkIndex(index, size);
+        Node<E> node = getNode(index);
+        E old = node.item;
+        node.item = value;
+        return old;
+    }
+
+    /**
+     * 마지막에 데이터 추가
+     * @param value element whose presence in this collection is to be ensured
+     * @return 항상 true
+     */
+    @Override
+    public boolean add(E value) {
+        add(size, value);
+        return true;
+    }
+
+    /**
+     * 특정 Index에 데이터 추가
+     * @param index index at which the specified element is to be inserted
+     * @param value element to be inserted
+     */
+    @Override
+    public void add(int index, E value) {
+        Objects.checkIndex(index, size + 1);
+        findPredecessors(index);
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int l = level; l < nodeLevel; l++) {
+                head.next[l] = head;
+                head.width[l] = size + 1;
+                update[l] = head;
+                rank[l] = 0;
+            }
+            level = nodeLevel;
+        }
+
+        // 새 노드의 위치는 index + 1 (더미 헤드가 0)
+        Node<E> node = new Node<>(value, nodeLevel);
+        for (int l = 0; l < nodeLevel; l++) {
+            Node<E> prev = update[l];
+            node.next[l] = prev.next[l];
+            node.width[l] = rank[l] + prev.width[l] - index;
+            prev.next[l] = node;
+            prev.width[l] = index + 1 - rank[l];
+        }
+        for (int l = nodeLevel; l < level; l++) {
+            update[l].width[l]++;
+        }
+        node.prev = update[0];
+        node.next[0].prev = node;
+
+        size++;
+        modCount++;
+    }
+
+    /**
+     * 특정 Index의 데이터 삭제
+     * @param index the index of the element to be removed
+     * @return deleted data
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        findPredecessors(index);
+
+        Node<E> target = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            Node<E> prev = update[l];
+            if (prev.next[l] == target) {
+                prev.width[l] += target.width[l] - 1;
+                prev.next[l] = target.next[l];
+            } else {
+                prev.width[l]--;
+            }
+        }
+        target.next[0].prev = update[0];
+        while (level > 1 && head.next[level - 1] == head) {
+            level--;
+        }
+
+        size--;
+        modCount++;
+        return target.item;
+    }
+
+    /**
+     * 특정 value를 찾아 처음 나오는 데이터 삭제
+     * @param value 삭제할 value
+     * @return success true, fail false
+     */
+    public boolean removeItem(E value) {
+        int index = indexOf(value);
+        if (index < 0) return false;
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        int index = 0;
+        for (Node<E> node = head.next[0]; node != head; node = node.next[0], index++) {
+            if (Objects.equals(value, node.item)) return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object value) {
+        int index = size - 1;
+        for (Node<E> node = head.prev; node != head; node = node.prev, index--) {
+            if (Objects.equals(value, node.item)) return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * data clear
+     */
+    @Override
+    public void clear() {
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            head.next[l] = head;
+            head.width[l] = 1;
+        }
+        head.prev = head;
+        level = 1;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @param index index of the first element to be returned from the
+     *        list iterator (by a call to {@link ListIterator#next next})
+     * @return 맨 아래 층을 따라가는 fail-fast ListIterator
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new Itr(index);
+    }
+
+    /**
+     * 위층부터 width를 더해가며 index번째 노드를 찾음
+     */
+    private Node<E> getNode(int index) {
+        int position = index + 1;
+        Node<E> node = head;
+        int traversed = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (traversed + node.width[l] <= position) {
+                traversed += node.width[l];
+                node = node.next[l];
+            }
+            if (traversed == position) return node;
+        }
+        return node;
+    }
+
+    /**
+     * 층별로 index번째 원소 바로 앞(위치 index 이하)의 마지막 노드를 update / rank에 저장
+     */
+    private void findPredecessors(int index) {
+        Node<E> node = head;
+        int traversed = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (traversed + node.width[l] <= index) {
+                traversed += node.width[l];
+                node = node.next[l];
+            }
+            update[l] = node;
+            rank[l] = traversed;
+        }
+    }
+
+    private static int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        return Math.min(MAX_LEVEL, 1 + Integer.numberOfTrailingZeros(bits) / 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E>[] newNodeArray() {
+        return (Node<E>[]) new Node[MAX_LEVEL];
+    }
+
+    private static final class Node<E> implements java.io.Serializable {
+        private E item;
+        private final Node<E>[] next;
+        private final int[] width;
+        private Node<E> prev;
+
+        @SuppressWarnings("unchecked")
+        private Node(E item, int level) {
+            this.item = item;
+            this.next = (Node<E>[]) new Node[level];
+            this.width = new int[level];
+        }
+    }
+
+    private final class Itr implements ListIterator<E> {
+        private Node<E> next;
+        private int nextIndex;
+        private Node<E> lastReturned;
+        private int expectedModCount = modCount;
+
+        private Itr(int index) {
+            next = index == size ? head : getNode(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextIndex >= size) throw new NoSuchElementException();
+
+            lastReturned = next;
+            next = next.next[0];
+            nextIndex++;
+            return lastReturned.item;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (nextIndex <= 0) throw new NoSuchElementException();
+
+            next = next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.item;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+
+            if (lastReturned == next) {
+                // previous() 직후
+                next = next.next[0];
+                IndexableSkipList.this.remove(nextIndex);
+            } else {
+                IndexableSkipList.this.remove(--nextIndex);
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E value) {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+
+            lastReturned.item = value;
+        }
+
+        @Override
+        public void add(E value) {
+            checkForComodification();
+
+            IndexableSkipList.this.add(nextIndex++, value);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
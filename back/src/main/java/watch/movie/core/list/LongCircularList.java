@@ -0,0 +1,337 @@
+package watch.movie.core.list;
+
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * long 전용 원형 배열 리스트 (영상 id 재생 목록 / 순환 대기열 용도)
+ * <p>
+ * {@link CircularArrayList}와 같은 구조를 long[]에 그대로 담아 원소마다 Node나 Long 객체를 만들지 않는다.
+ * 원소당 메모리는 8byte(배열 여유분 제외)이며, 순회와 bulk 연산도 boxing 없이 처리한다.
+ * iterator는 fail-fast로 동작하고 동기화하지 않는다.
+ */
+public class LongCircularList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] elements;
+    private int head;
+    private int size;
+    private int modCount;
+
+    public LongCircularList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity 처음 배열 크기 (2의 거듭제곱으로 올림)
+     */
+    public LongCircularList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity : " + initialCapacity);
+
+        elements = new long[capacityFor(initialCapacity)];
+    }
+
+    public static LongCircularList of(long... values) {
+        LongCircularList list = new LongCircularList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[physical(index)];
+    }
+
+    /**
+     * @return 이전 값
+     */
+    public long set(int index, long value) {
+        Objects.checkIndex(index, size);
+        int slot = physical(index);
+        long old = elements[slot];
+        elements[slot] = value;
+        return old;
+    }
+
+    public void add(long value) {
+        addLast(value);
+    }
+
+    public void addFirst(long value) {
+        ensureCapacity(size + 1);
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+        modCount++;
+    }
+
+    public void addLast(long value) {
+        ensureCapacity(size + 1);
+        elements[physical(size)] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * 특정 Index에 추가, 가까운 쪽 끝의 원소를 한 칸씩 밀어낸다.
+     */
+    public void add(int index, long value) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+
+        int mask = elements.length - 1;
+        if (index < size - index) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+        }
+        elements[(head + index) & mask] = value;
+        size++;
+        modCount++;
+    }
+
+    public long getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[head];
+    }
+
+    public long getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[physical(size - 1)];
+    }
+
+    public long removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+
+        long value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        modCount++;
+        return value;
+    }
+
+    public long removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+
+        long value = elements[physical(size - 1)];
+        size--;
+        modCount++;
+        return value;
+    }
+
+    /**
+     * 특정 Index의 값 삭제, 가까운 쪽 끝의 원소를 한 칸씩 당긴다.
+     * @return 삭제한 값
+     */
+    public long removeAt(int index) {
+        Objects.checkIndex(index, size);
+        int mask = elements.length - 1;
+        long removed = elements[(head + index) & mask];
+
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * 처음 나오는 값을 삭제
+     * @return 삭제했으면 true
+     */
+    public boolean removeValue(long value) {
+        int index = indexOf(value);
+        if (index < 0) return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    public int indexOf(long value) {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (elements[(head + i) & mask] == value) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * 원소를 순서대로 distance만큼 뒤로 회전 ({@link CircularArrayList#rotate(int)}와 같음)
+     */
+    public void rotate(int distance) {
+        if (size <= 1) return;
+
+        int shift = Math.floorMod(distance, size);
+        if (shift == 0) return;
+
+        int mask = elements.length - 1;
+        if (size == elements.length) {
+            head = (head - shift) & mask;
+        } else if (shift <= size - shift) {
+            for (int i = 0; i < shift; i++) {
+                int last = (head + size - 1) & mask;
+                head = (head - 1) & mask;
+                elements[head] = elements[last];
+            }
+        } else {
+            for (int i = 0; i < size - shift; i++) {
+                elements[(head + size) & mask] = elements[head];
+                head = (head + 1) & mask;
+            }
+        }
+        modCount++;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * 앞에서부터 모든 값에 action 실행
+     */
+    public void forEach(LongConsumer action) {
+        int expectedModCount = modCount;
+        int mask = elements.length - 1;
+        long[] values = elements;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(values[(head + i) & mask]);
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    public long[] toArray() {
+        long[] copy = new long[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, copy, 0, firstPart);
+        System.arraycopy(elements, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    /**
+     * 앞에서부터 읽는 iterator (fail-fast, remove 지원)
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int cursor;
+            private int lastReturned = -1;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (cursor >= size) throw new NoSuchElementException();
+
+                lastReturned = cursor++;
+                return elements[physical(lastReturned)];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) throw new IllegalStateException();
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+
+                removeAt(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(
+                Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.SIZED), false);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongCircularList other) || other.size != size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (elements[physical(i)] != other.elements[other.physical(i)]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Long.hashCode(elements[physical(i)]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[physical(i)]);
+        }
+        return sb.append(']').toString();
+    }
+
+    private int physical(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    /**
+     * 배열 크기를 두 배로 늘리면서 head를 0으로 정렬
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) return;
+        if (elements.length == MAX_CAPACITY) throw new IllegalStateException("capacity : " + minCapacity);
+
+        long[] grown = new long[capacityFor(minCapacity)];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity <= DEFAULT_CAPACITY) return DEFAULT_CAPACITY;
+        if (minCapacity > MAX_CAPACITY) return MAX_CAPACITY;
+        return Integer.highestOneBit(minCapacity - 1) << 1;
+    }
+}
@@ -0,0 +1,356 @@
+package watch.movie.core.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * lock 없이 여러 생산자 / 소비자가 함께 쓰는 고정 크기 원형 queue (Vyukov bounded MPMC)
+ * <p>
+ * 칸마다 sequence 번호를 두어, 생산자는 sequence == 위치인 칸을, 소비자는 sequence == 위치 + 1인 칸을 CAS로 차지한다.
+ * 칸을 차지한 뒤 값을 쓰고 sequence를 올리므로 생산자끼리 / 소비자끼리만 경합하고 서로를 기다리지 않는다.
+ * head / tail 카운터는 서로 다른 cache line에 두어 생산자와 소비자가 같은 line을 두고 다투지 않게 한다.
+ * <p>
+ * 대기하는 put / take / 시간 제한 offer / poll은 신호 없이 잠깐 spin한 뒤 최대 {@value MAX_PARK_NANOS}ns씩 park하며 다시 시도한다.
+ * iterator는 만든 시점에 들어있는 값의 snapshot이다. null은 넣을 수 없다.
+ * <p>
+ * {@link #remove(Object)}와 iterator의 remove는 칸을 비우지 않고 값만 CAS로 삭제 표시로 바꾸며, 소비자가 그 칸을 꺼낼 때 건너뛴다.
+ * 소비자는 값을 getAndSet으로 가져가므로 같은 원소를 소비자와 remove가 함께 가져가는 일은 없다.
+ * 삭제 표시한 칸은 소비자가 지나갈 때까지 {@link #size()}와 용량에 포함된다.
+ * @param <E> Object
+ */
+public class MpmcCircularQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int SPIN_TRIES = 64;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    // remove로 삭제한 칸의 값
+    private static final Object REMOVED = new Object();
+
+    private final long[] sequences;
+    private final Object[] elements;
+    private final int mask;
+    private final PaddedCounter tail = new PaddedCounter();
+    private final PaddedCounter head = new PaddedCounter();
+
+    /**
+     * @param capacity 최대 원소 수 (2의 거듭제곱으로 올림)
+     */
+    public MpmcCircularQueue(int capacity) {
+        if (capacity < 2 || capacity > MAX_CAPACITY) throw new IllegalArgumentException("capacity : " + capacity);
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.sequences = new long[size];
+        this.elements = new Object[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * 가득 차 있지 않으면 추가
+     * @return 가득 차서 추가하지 못하면 false
+     */
+    @Override
+    public boolean offer(E value) {
+        Objects.requireNonNull(value);
+
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long difference = (long) SEQUENCES.getAcquire(sequences, slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    ELEMENTS.setRelease(elements, slot, value);
+                    SEQUENCES.setRelease(sequences, slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전 값을 아직 꺼내지 않음
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 맨 앞의 값을 꺼냄
+     * @return 비어있으면 null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long difference = (long) SEQUENCES.getAcquire(sequences, slot) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    Object value = ELEMENTS.getAndSet(elements, slot, null);
+                    SEQUENCES.setRelease(sequences, slot, position + mask + 1);
+                    if (value != REMOVED) return (E) value;
+                    // 삭제 표시한 칸은 건너뜀
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // 아직 채워지지 않음
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * 맨 앞의 값 (삭제 표시한 칸은 건너뜀)
+     * @return 비어있으면 null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        restart:
+        while (true) {
+            for (long position = head.get(); ; position++) {
+                int slot = (int) position & mask;
+                long sequence = (long) SEQUENCES.getAcquire(sequences, slot);
+                if (sequence < position + 1) return null;
+                // 이미 꺼내진 칸이면 head부터 다시
+                if (sequence > position + 1) continue restart;
+
+                Object value = ELEMENTS.getAcquire(elements, slot);
+                if (value == REMOVED) continue;
+                // 읽는 사이에 다른 소비자가 꺼내지 않았을 때만 유효
+                if (value == null || (long) SEQUENCES.getAcquire(sequences, slot) != position + 1) continue restart;
+                return (E) value;
+            }
+        }
+    }
+
+    @Override
+    public void put(E value) throws InterruptedException {
+        Objects.requireNonNull(value);
+        for (int attempt = 0; !offer(value); attempt++) {
+            backOff(attempt, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean offer(E value, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(value);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; !offer(value); attempt++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return false;
+            backOff(attempt, remaining);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E value;
+        for (int attempt = 0; (value = poll()) == null; attempt++) {
+            backOff(attempt, Long.MAX_VALUE);
+        }
+        return value;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        E value;
+        for (int attempt = 0; (value = poll()) == null; attempt++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return null;
+            backOff(attempt, remaining);
+        }
+        return value;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 최대 maxElements개를 한 번에 꺼내 target에 추가
+     * @return 꺼낸 개수
+     */
+    @Override
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        Objects.requireNonNull(target);
+        if (target == this) throw new IllegalArgumentException();
+
+        int drained = 0;
+        E value;
+        while (drained < maxElements && (value = poll()) != null) {
+            target.add(value);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 현재 원소 수 (동시에 변경 중이면 근사값)
+     */
+    @Override
+    public int size() {
+        while (true) {
+            long before = head.get();
+            long currentTail = tail.get();
+            long after = head.get();
+            if (before == after) {
+                return (int) Math.max(0, Math.min(mask + 1, currentTail - after));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity() - size();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 처음 나오는 같은 값을 삭제 표시
+     * @return 삭제했으면 true (이미 꺼내졌거나 없으면 false)
+     */
+    @Override
+    public boolean remove(Object value) {
+        if (value == null) return false;
+
+        long end = tail.get();
+        for (long position = head.get(); position < end; position++) {
+            Object current = valueAt(position);
+            if (current != null && value.equals(current) && removeAt(position, current)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 만든 시점에 들어있는 값의 snapshot을 순서대로 반환하고, remove는 읽은 칸에 그 값이 남아있으면 삭제 표시
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * position 칸에 들어있는 값 (채워지지 않았거나 꺼내졌거나 삭제 표시한 칸이면 null)
+     */
+    private Object valueAt(long position) {
+        int slot = (int) position & mask;
+        Object value = ELEMENTS.getAcquire(elements, slot);
+        if (value == REMOVED || (long) SEQUENCES.getAcquire(sequences, slot) != position + 1) return null;
+        return value;
+    }
+
+    /**
+     * position 칸의 값이 아직 value이면 삭제 표시 (소비자가 먼저 가져갔으면 실패)
+     */
+    private boolean removeAt(long position, Object value) {
+        return ELEMENTS.compareAndSet(elements, (int) position & mask, value, REMOVED);
+    }
+
+    private final class Itr implements Iterator<E> {
+        private final List<Object> values = new ArrayList<>();
+        private final List<Long> positions = new ArrayList<>();
+        private int cursor;
+        private int last = -1;
+
+        private Itr() {
+            long end = tail.get();
+            for (long position = head.get(); position < end; position++) {
+                Object value = valueAt(position);
+                if (value != null) {
+                    values.add(value);
+                    positions.add(position);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < values.size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (cursor >= values.size()) throw new NoSuchElementException();
+            last = cursor++;
+            return (E) values.get(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) throw new IllegalStateException();
+            removeAt(positions.get(last), values.get(last));
+            last = -1;
+        }
+    }
+
+    /**
+     * 처음 몇 번은 spin하고 그 뒤로는 park 시간을 두 배씩 늘림
+     */
+    private static void backOff(int attempt, long remainingNanos) throws InterruptedException {
+        if (Thread.interrupted()) throw new InterruptedException();
+
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            int exponent = Math.min(attempt - SPIN_TRIES, 20);
+            LockSupport.parkNanos(Math.min(remainingNanos, Math.min(MAX_PARK_NANOS, 1000L << exponent)));
+        }
+    }
+
+    /**
+     * 앞뒤를 cache line 크기 이상 채운 카운터 (상속 순서대로 필드가 배치되는 점을 이용)
+     */
+    private static class CounterPadBefore {
+        long p01, p02, p03, p04, p05, p06, p07, p08;
+    }
+
+    private static class CounterValue extends CounterPadBefore {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(CounterValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        volatile long value;
+
+        long get() {
+            return value;
+        }
+
+        boolean compareAndSet(long expected, long next) {
+            return VALUE.compareAndSet(this, expected, next);
+        }
+    }
+
+    private static final class PaddedCounter extends CounterValue {
+        long p11, p12, p13, p14, p15, p16, p17, p18;
+    }
+}
@@ -3,6 +3,7 @@ package watch.movie.core.list.extLinkedList;
 import watch.movie.core.list.extLinkedList.listNode.BidirectionalNode;
 
 import java.util.AbstractSequentialList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
@@ -14,6 +15,10 @@ public class CircularDoublyLinkedList<E>
     private BidirectionalNode<E> head;
     private int currentIndex;
 
+    /** 마지막으로 찾은 노드와 그 Index (finger), 없으면 null / -1 */
+    private transient BidirectionalNode<E> fingerNode;
+    private transient int fingerIndex = -1;
+
     public CircularDoublyLinkedList() {
        currentIndex = 0;
         head = new BidirectionalNode<>(null);
@@ -33,6 +38,8 @@ public class CircularDoublyLinkedList<E>
             newNode.next.prev = newNode;
             prevNode.next = newNode;
             currentIndex++;
+            modCount++;
+            invalidateFinger(index);
         } else throw new IndexOutOfBoundsException("Index out of bounds");
     }
 
@@ -48,6 +55,7 @@ public class CircularDoublyLinkedList<E>
         prevNode.next = newNode;
         head.prev = newNode;
         currentIndex++;
+        modCount++;
         return true;
     }
 
@@ -59,10 +67,13 @@ public class CircularDoublyLinkedList<E>
     @Override
     public E remove(int index) {
         if (index >= 0 && index <= currentIndex - 1) {
-            BidirectionalNode<E> currentNode = getNode(index);
+            // 앞 노드를 찾아 finger를 삭제 위치 앞에 남김
+            BidirectionalNode<E> currentNode = getNode(index - 1).next;
             currentNode.prev.next = currentNode.next;
             currentNode.next.prev = currentNode.prev;
             currentIndex--;
+            modCount++;
+            invalidateFinger(index);
             return currentNode.item;
         } else return null;
     }
@@ -81,6 +92,8 @@ public class CircularDoublyLinkedList<E>
                 currentNode.next.prev = currentNode.prev;
 
                 currentIndex--;
+                modCount++;
+                invalidateFinger(i);
                 return true;
             }
         }
@@ -112,24 +125,48 @@ public class CircularDoublyLinkedList<E>
         } else throw new IndexOutOfBoundsException("Index out of bounds");
     }
 
+    /**
+     * 특정 Index의 Node를 head 앞 / head 뒤 / finger 중 가장 가까운 곳에서부터 찾음 (-1이면 head)
+     * 찾은 Node는 finger로 기억하므로 Index를 차례로 접근하면 한두 칸씩만 이동한다.
+     */
     private BidirectionalNode<E> getNode(int index) {
         if (index >= -1 && index <= currentIndex - 1) {
             BidirectionalNode<E> currentNode = head;
+            int distance = index + 1;
+            boolean forward = true;
 
-            if (index < currentIndex / 2) {
-                for (int i = 0; i <= index; i++) {
-                    currentNode = currentNode.next;
-                }
-            } else {
-                for (int i = currentIndex - 1; i >= index ; i--) {
-                    currentNode = currentNode.prev;
-                }
+            if (currentIndex - index < distance) {
+                distance = currentIndex - index;
+                forward = false;
+            }
+            if (fingerNode != null && Math.abs(index - fingerIndex) < distance) {
+                currentNode = fingerNode;
+                distance = Math.abs(index - fingerIndex);
+                forward = index > fingerIndex;
+            }
+
+            for (int i = 0; i < distance; i++) {
+                currentNode = forward ? currentNode.next : currentNode.prev;
             }
 
+            if (index >= 0) {
+                fingerNode = currentNode;
+                fingerIndex = index;
+            }
             return currentNode;
         } else throw new IndexOutOfBoundsException("Index out of bounds");
     }
 
+    /**
+     * index 위치의 구조가 바뀌면 그 뒤쪽을 가리키는 finger는 위치가 달라지므로 버림
+     */
+    private void invalidateFinger(int index) {
+        if (fingerIndex >= index) {
+            fingerNode = null;
+            fingerIndex = -1;
+        }
+    }
+
     @Override
     public int indexOf(Object value){
         BidirectionalNode<E> currentNode = head;
@@ -168,6 +205,8 @@ public class CircularDoublyLinkedList<E>
     public void clear() {
         currentIndex = 0;
         head.next = head.prev = head;
+        modCount++;
+        invalidateFinger(0);
     }
 
     @Override
@@ -201,9 +240,10 @@ public class CircularDoublyLinkedList<E>
         }
 
         return new ListIterator<E>() {
-            private BidirectionalNode<E> currentNode = (index == 0) ? head.next : getNode(index);
+            private BidirectionalNode<E> currentNode = getNode(index - 1).next; // 다음에 반환할 노드 (끝이면 head)
+            private BidirectionalNode<E> lastReturned;
             private int currentIndex = index;
-            private boolean canModify = false;
+            private int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
@@ -212,14 +252,14 @@ public class CircularDoublyLinkedList<E>
 
             @Override
             public E next() {
+                checkForComodification();
                 if (!hasNext()) {
                     throw new NoSuchElementException();
                 }
-                E value = currentNode.item;
+                lastReturned = currentNode;
                 currentNode = currentNode.next;
                 currentIndex++;
-                canModify = true;
-                return value;
+                return lastReturned.item;
             }
 
             @Override
@@ -229,14 +269,14 @@ public class CircularDoublyLinkedList<E>
 
             @Override
             public E previous() {
+                checkForComodification();
                 if (!hasPrevious()) {
                     throw new NoSuchElementException();
                 }
                 currentNode = currentNode.prev;
-                E value = currentNode.item;
+                lastReturned = currentNode;
                 currentIndex--;
-                canModify = true;
-                return value;
+                return lastReturned.item;
             }
 
             @Override
@@ -251,37 +291,57 @@ public class CircularDoublyLinkedList<E>
 
             @Override
             public void remove() {
-                if (!canModify) {
+                if (lastReturned == null) {
                     throw new IllegalStateException("Cannot remove element");
                 }
-                BidirectionalNode<E> prevNode = currentNode.prev;
-                prevNode.next = currentNode.next;
-                currentNode.next.prev = prevNode;
+                checkForComodification();
+
+                lastReturned.prev.next = lastReturned.next;
+                lastReturned.next.prev = lastReturned.prev;
+                if (currentNode == lastReturned) {
+                    // previous() 직후
+                    currentNode = lastReturned.next;
+                } else {
+                    currentIndex--;
+                }
 
-                currentNode = currentNode.next; // Move forward after removal
+                lastReturned = null;
                 CircularDoublyLinkedList.this.currentIndex--;
-                canModify = false;
+                modCount++;
+                expectedModCount = modCount;
+                invalidateFinger(currentIndex);
             }
 
             @Override
             public void set(E e) {
-                if (!canModify) {
+                if (lastReturned == null) {
                     throw new IllegalStateException("Cannot modify element");
                 }
-                currentNode.item = e; // Modify the current node's value
+                checkForComodification();
+                lastReturned.item = e;
             }
 
             @Override
             public void add(E e) {
+                checkForComodification();
                 BidirectionalNode<E> prevNode = currentNode.prev;
                 BidirectionalNode<E> newNode = new BidirectionalNode<>(prevNode, e, currentNode);
 
                 prevNode.next = newNode;
                 currentNode.prev = newNode;
 
+                invalidateFinger(currentIndex);
                 CircularDoublyLinkedList.this.currentIndex++;
                 currentIndex++;
-                canModify = false;
+                lastReturned = null;
+                modCount++;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
             }
         };
     }
@@ -3,9 +3,11 @@ package watch.movie.core.list.extLinkedList;
 import watch.movie.core.list.extLinkedList.listNode.Node;
 
 import java.util.AbstractSequentialList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 /**
  * LinkedList의 확장판으로 마지막 Node의 next가 맨 처음 Index의 노드를 바라보고 있다.
@@ -18,6 +20,10 @@ public class CircularLinkedList<E>
     private Node<E> tail;
     private int currentIndex;
 
+    /** 마지막으로 찾은 노드와 그 Index (finger), 없으면 null / -1 */
+    private transient Node<E> fingerNode;
+    private transient int fingerIndex = -1;
+
     public CircularLinkedList() {
         currentIndex = 0;
         tail = new Node(-1);
@@ -41,6 +47,8 @@ public class CircularLinkedList<E>
             }
 
             currentIndex++;
+            modCount++;
+            invalidateFinger(index);
         }
     }
 
@@ -56,6 +64,7 @@ public class CircularLinkedList<E>
         prevNode.next = newNode;
         tail = newNode;
         currentIndex++;
+        modCount++;
         return true;
     }
 
@@ -71,9 +80,11 @@ public class CircularLinkedList<E>
             E removeItem = prevNode.next.item;
             prevNode.next = prevNode.next.next;
 
-            if (currentIndex == index) tail = prevNode;
+            if (index == currentIndex - 1) tail = prevNode;
 
             currentIndex--;
+            modCount++;
+            invalidateFinger(index);
             return removeItem;
         } else {
             return null;
@@ -94,7 +105,10 @@ public class CircularLinkedList<E>
 
             if (((Comparable)(currentNode.item)).compareTo(value) == 0) {
                 prevNode.next = currentNode.next;
+                if (currentNode == tail) tail = prevNode;
                 currentIndex--;
+                modCount++;
+                invalidateFinger(i);
 
                 return;
             }
@@ -139,29 +153,54 @@ public class CircularLinkedList<E>
 
     /**
      * 특정 Index의 Node를 Get
+     * 앞으로만 갈 수 있으므로 마지막 Node면 tail을, finger가 앞쪽에 있으면 finger부터, 아니면 더미 헤드부터 찾는다.
+     * 찾은 Node는 finger로 기억하므로 Index를 차례로 접근하면 한 칸씩만 이동한다.
      * @param index data Index
      * @return search Node
      */
     private Node<E> getNode(int index) {
         if (index >= -1 && index <= currentIndex) {
             Node<E> currentNode = tail.next; // 더미 헤드
-            for (int i = 0; i <= index; i++) {
+            int position = -1;
+            if (index >= 0 && index == currentIndex - 1) {
+                currentNode = tail;
+                position = index;
+            } else if (fingerNode != null && fingerIndex <= index) {
+                currentNode = fingerNode;
+                position = fingerIndex;
+            }
+            for (; position < index; position++) {
                 currentNode = currentNode.next;
             }
 
+            if (index >= 0 && index < currentIndex) {
+                fingerNode = currentNode;
+                fingerIndex = index;
+            }
             return currentNode;
         } else throw new IndexOutOfBoundsException();
     }
 
+    /**
+     * index 위치의 구조가 바뀌면 그 뒤쪽을 가리키는 finger는 위치가 달라지므로 버림
+     */
+    private void invalidateFinger(int index) {
+        if (fingerIndex >= index) {
+            fingerNode = null;
+            fingerIndex = -1;
+        }
+    }
+
     /**
      * 특정 데이터의 값의 Index를 탐색
      * @param value 검색할 데이터
      * @return 데이터가 있으면 Index, 데이터가 없으면 -1
      */
     public int indexOf(Object value) {
-        Node<E> currentNode = tail.next;
+        Node<E> currentNode = tail.next; // 더미 헤드
         for (int i = 0; i < currentIndex; i++) {
-            if (((Comparable)currentNode.item).compareTo(value) == 0) return i;
+            currentNode = currentNode.next;
+            if (Objects.equals(currentNode.item, value)) return i;
         }
 
         return -1;
@@ -184,6 +223,8 @@ public class CircularLinkedList<E>
         currentIndex = 0;
         tail = new Node(-1);
         tail.next = tail;
+        modCount++;
+        invalidateFinger(0);
     }
 
     @Override
@@ -213,9 +254,11 @@ public class CircularLinkedList<E>
         }
 
         return new ListIterator<E>() {
-            private Node<E> currentNode = (index == this.currentIndex) ? tail.next : getNode(index); // 현재 노드
-            private int currentIndex = index; // 현재 인덱스
-            private boolean canModify = false; // 현재 위치에서 수정 가능한지 여부
+            private Node<E> currentNode = getNode(index - 1); // 다음에 반환할 노드의 앞 노드 (처음이면 더미 헤드)
+            private Node<E> lastReturned; // 마지막으로 반환한 노드
+            private Node<E> lastPrev; // lastReturned의 앞 노드
+            private int currentIndex = index; // 다음에 반환할 인덱스
+            private int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
@@ -224,12 +267,14 @@ public class CircularLinkedList<E>
 
             @Override
             public E next() {
+                checkForComodification();
                 if (!hasNext()) {
                     throw new NoSuchElementException();
                 }
+                lastPrev = currentNode;
                 currentNode = currentNode.next;
+                lastReturned = currentNode;
                 currentIndex++;
-                canModify = true;
                 return currentNode.item;
             }
 
@@ -238,15 +283,20 @@ public class CircularLinkedList<E>
                 return currentIndex > 0;
             }
 
+            /**
+             * 단방향이라 앞 노드를 다시 찾아야 하므로 호출마다 getNode를 사용
+             */
             @Override
             public E previous() {
+                checkForComodification();
                 if (!hasPrevious()) {
                     throw new NoSuchElementException();
                 }
-                currentNode = (currentIndex == 0) ? getNode(CircularLinkedList.this.currentIndex - 1) : getNode(currentIndex - 1);
+                lastReturned = currentNode;
+                lastPrev = getNode(currentIndex - 2);
+                currentNode = lastPrev;
                 currentIndex--;
-                canModify = true;
-                return currentNode.item;
+                return lastReturned.item;
             }
 
             @Override
@@ -261,32 +311,57 @@ public class CircularLinkedList<E>
 
             @Override
             public void remove() {
-                if (!canModify) {
+                if (lastReturned == null) {
                     throw new IllegalStateException();
                 }
-                CircularLinkedList.this.remove(currentIndex);
-                currentIndex--;
-                canModify = false;
+                checkForComodification();
+
+                lastPrev.next = lastReturned.next;
+                if (lastReturned == tail) tail = lastPrev;
+                if (currentNode == lastReturned) {
+                    // next() 직후
+                    currentNode = lastPrev;
+                    currentIndex--;
+                }
+
+                lastReturned = null;
+                CircularLinkedList.this.currentIndex--;
+                modCount++;
+                expectedModCount = modCount;
+                invalidateFinger(currentIndex);
             }
 
             @Override
             public void set(E e) {
-                if (!canModify) {
+                if (lastReturned == null) {
                     throw new IllegalStateException();
                 }
-                currentNode.item = e;
+                checkForComodification();
+                lastReturned.item = e;
             }
 
             @Override
             public void add(E e) {
+                checkForComodification();
                 Node<E> newNode = new Node<>(e, currentNode.next);
                 currentNode.next = newNode;
                 if (currentNode == tail) {
                     tail = newNode;
                 }
+
+                invalidateFinger(currentIndex);
+                currentNode = newNode;
                 currentIndex++;
                 CircularLinkedList.this.currentIndex++;
-                canModify = false;
+                lastReturned = null;
+                modCount++;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
             }
         };
     }
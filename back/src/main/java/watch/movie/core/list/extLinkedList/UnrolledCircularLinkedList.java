@@ -0,0 +1,461 @@
+package watch.movie.core.list.extLinkedList;
+
+import java.util.*;
+
+/**
+ * 노드마다 원소 배열을 담는 원형 이중 연결 리스트 (unrolled linked list)
+ * <p>
+ * {@link CircularDoublyLinkedList}처럼 더미 헤드를 중심으로 노드가 원형으로 이어져 있지만, 노드 하나에 최대 {@value CHUNK_SIZE}개의 원소를 담는다.
+ * <ul>
+ *     <li>꽉 찬 노드에 추가하면 노드를 반으로 나눔</li>
+ *     <li>삭제 후 노드의 원소가 {@value MIN_FILL}개 미만이면 이웃 노드와 합치고, 합치면 넘치는 경우 이웃 노드와 원소를 반씩 나눠 가짐</li>
+ *     <li>index 접근은 가까운 쪽 끝에서부터 노드별 원소 수만큼 건너뛰며 찾음</li>
+ *     <li>순회는 배열을 차례로 읽으므로 노드 포인터를 원소마다 따라가지 않음</li>
+ * </ul>
+ * 따라서 마지막 노드를 제외한 모든 노드는 항상 {@value MIN_FILL}개 이상을 담는다.
+ * 구조가 바뀌면 modCount가 증가하므로 iterator는 fail-fast로 동작한다. null 원소를 허용하고 동기화하지 않는다.
+ * @param <E> Object
+ */
+public class UnrolledCircularLinkedList<E>
+        extends AbstractSequentialList<E>
+        implements List<E>, java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    static final int CHUNK_SIZE = 32;
+    static final int MIN_FILL = CHUNK_SIZE / 4;
+
+    private final Chunk head;
+    private int size;
+
+    public UnrolledCircularLinkedList() {
+        head = new Chunk(0);
+        head.next = head.prev = head;
+    }
+
+    public UnrolledCircularLinkedList(Collection<? extends E> values) {
+        this();
+        addAll(values);
+    }
+
+    /**
+     * 특정 Index의 data 반환
+     * @param index index of the element to return
+     * @return data
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        Position position = find(index);
+        return position.chunk.item(position.offset);
+    }
+
+    /**
+     * 특정 Index의 데이터 수정
+     * @param index index of the element to replace
+     * @param value element to be stored at the specified position
+     * @return 이전 값
+     */
+    @Override
+    public E set(int index, E value) {
+        Objects.checkIndex(index, size);
+        Position position = find(index);
+        E old = position.chunk.item(position.offset);
+        position.chunk.items[position.offset] = value;
+        return old;
+    }
+
+    /**
+     * 마지막에 데이터 추가
+     * @param value element whose presence in this collection is to be ensured
+     * @return 항상 true
+     */
+    @Override
+    public boolean add(E value) {
+        Chunk last = head.prev;
+        if (last == head || last.count == CHUNK_SIZE) last = linkAfter(head.prev);
+        last.items[last.count++] = value;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * 특정 Index에 데이터를 추가, 노드가 가득 차 있으면 반으로 나눈 뒤 추가
+     * @param index index at which the specified element is to be inserted
+     * @param value element to be inserted
+     */
+    @Override
+    public void add(int index, E value) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(value);
+            return;
+        }
+
+        Position position = find(index);
+        Chunk chunk = position.chunk;
+        int offset = position.offset;
+        if (chunk.count == CHUNK_SIZE) {
+            Chunk split = linkAfter(chunk);
+            int half = CHUNK_SIZE / 2;
+            System.arraycopy(chunk.items, half, split.items, 0, CHUNK_SIZE - half);
+            Arrays.fill(chunk.items, half, CHUNK_SIZE, null);
+            split.count = CHUNK_SIZE - half;
+            chunk.count = half;
+            if (offset > half) {
+                chunk = split;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+        chunk.items[offset] = value;
+        chunk.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * 특정 Index의 데이터 삭제, 노드가 비면 제거하고 {@value MIN_FILL}개 미만이면 이웃 노드와 합치거나 나눠 가짐
+     * @param index the index of the element to be removed
+     * @return deleted data
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        Position position = find(index);
+        Chunk chunk = position.chunk;
+        int offset = position.offset;
+        E removed = chunk.item(offset);
+
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+        chunk.items[--chunk.count] = null;
+        size--;
+        modCount++;
+
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else if (chunk.count < MIN_FILL) {
+            rebalance(chunk);
+        }
+        return removed;
+    }
+
+    /**
+     * 특정 value를 찾아 처음 나오는 데이터 삭제
+     * @param value 삭제할 value
+     * @return success true, fail false
+     */
+    public boolean removeItem(E value) {
+        int index = indexOf(value);
+        if (index < 0) return false;
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        int base = 0;
+        for (Chunk chunk = head.next; chunk != head; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (Objects.equals(value, chunk.items[i])) return base + i;
+            }
+            base += chunk.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object value) {
+        int end = size;
+        for (Chunk chunk = head.prev; chunk != head; chunk = chunk.prev) {
+            end -= chunk.count;
+            for (int i = chunk.count - 1; i >= 0; i--) {
+                if (Objects.equals(value, chunk.items[i])) return end + i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * data clear
+     */
+    @Override
+    public void clear() {
+        head.next = head.prev = head;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * 원소를 담고 있는 노드 수 (채움 비율 확인용)
+     */
+    int chunkCount() {
+        int chunks = 0;
+        for (Chunk chunk = head.next; chunk != head; chunk = chunk.next) {
+            chunks++;
+        }
+        return chunks;
+    }
+
+    /**
+     * 노드별 원소 수 (채움 비율 확인용)
+     */
+    int[] chunkFills() {
+        int[] fills = new int[chunkCount()];
+        int i = 0;
+        for (Chunk chunk = head.next; chunk != head; chunk = chunk.next) {
+            fills[i++] = chunk.count;
+        }
+        return fills;
+    }
+
+    /**
+     * @param index index of the first element to be returned from the
+     *        list iterator (by a call to {@link ListIterator#next next})
+     * @return 노드 배열을 차례로 읽는 fail-fast ListIterator
+     */
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new Itr(index);
+    }
+
+    /**
+     * index번째 원소가 있는 노드와 노드 안 위치를 가까운 쪽 끝에서부터 찾음
+     * 리스트의 상태를 바꾸지 않으므로 읽기만 하는 호출은 여러 스레드에서 함께 사용할 수 있다.
+     */
+    private Position find(int index) {
+        if (index < size / 2) {
+            Chunk chunk = head.next;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            return new Position(chunk, index);
+        }
+
+        Chunk chunk = head.prev;
+        int start = size - chunk.count;
+        while (index < start) {
+            chunk = chunk.prev;
+            start -= chunk.count;
+        }
+        return new Position(chunk, index - start);
+    }
+
+    private Chunk linkAfter(Chunk prev) {
+        Chunk chunk = new Chunk(CHUNK_SIZE);
+        chunk.prev = prev;
+        chunk.next = prev.next;
+        prev.next.prev = chunk;
+        prev.next = chunk;
+        return chunk;
+    }
+
+    private void unlink(Chunk chunk) {
+        chunk.prev.next = chunk.next;
+        chunk.next.prev = chunk.prev;
+    }
+
+    /**
+     * 원소가 부족한 노드를 앞 노드(첫 노드면 뒤 노드)와 합치고, 합치면 넘치는 경우 두 노드가 반씩 나눠 가짐
+     */
+    private void rebalance(Chunk chunk) {
+        Chunk left = chunk.prev != head ? chunk.prev : chunk;
+        Chunk right = left == chunk ? chunk.next : chunk;
+        if (right == head) return;
+
+        if (left.count + right.count <= CHUNK_SIZE) merge(left, right);
+        else balance(left, right);
+    }
+
+    /**
+     * 이웃한 두 노드의 원소를 순서를 유지한 채 반씩 나눔
+     */
+    private void balance(Chunk left, Chunk right) {
+        int total = left.count + right.count;
+        int leftCount = total / 2;
+        if (left.count > leftCount) {
+            int moved = left.count - leftCount;
+            System.arraycopy(right.items, 0, right.items, moved, right.count);
+            System.arraycopy(left.items, leftCount, right.items, 0, moved);
+            Arrays.fill(left.items, leftCount, left.count, null);
+        } else {
+            int moved = leftCount - left.count;
+            System.arraycopy(right.items, 0, left.items, left.count, moved);
+            System.arraycopy(right.items, moved, right.items, 0, right.count - moved);
+            Arrays.fill(right.items, right.count - moved, right.count, null);
+        }
+        left.count = leftCount;
+        right.count = total - leftCount;
+    }
+
+    /**
+     * right의 원소를 left 뒤에 붙이고 right 제거
+     */
+    private void merge(Chunk left, Chunk right) {
+        System.arraycopy(right.items, 0, left.items, left.count, right.count);
+        left.count += right.count;
+        unlink(right);
+    }
+
+    private final class Chunk implements java.io.Serializable {
+        private final Object[] items;
+        private int count;
+        private Chunk prev;
+        private Chunk next;
+
+        private Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private E item(int offset) {
+            return (E) items[offset];
+        }
+    }
+
+    /**
+     * {@link #find(int)}가 찾은 노드와 노드 안 위치
+     */
+    private final class Position {
+        private final Chunk chunk;
+        private final int offset;
+
+        private Position(Chunk chunk, int offset) {
+            this.chunk = chunk;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * (노드, 노드 안 위치)를 들고 다니는 iterator
+     * 추가 / 삭제 후에는 노드가 나뉘거나 합쳐질 수 있으므로 위치를 다시 찾는다.
+     */
+    private final class Itr implements ListIterator<E> {
+        private Chunk chunk;
+        private int offset;
+        private int nextIndex;
+        private Chunk lastChunk;
+        private int lastOffset;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        private Itr(int index) {
+            moveTo(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextIndex >= size) throw new NoSuchElementException();
+
+            if (offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            lastChunk = chunk;
+            lastOffset = offset;
+            lastIndex = nextIndex++;
+            return chunk.item(offset++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (nextIndex <= 0) throw new NoSuchElementException();
+
+            if (offset == 0) {
+                chunk = chunk.prev;
+                offset = chunk.count;
+            }
+            offset--;
+            lastChunk = chunk;
+            lastOffset = offset;
+            lastIndex = --nextIndex;
+            return chunk.item(offset);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) throw new IllegalStateException();
+            checkForComodification();
+
+            UnrolledCircularLinkedList.this.remove(lastIndex);
+            if (lastIndex < nextIndex) nextIndex--;
+            moveTo(nextIndex);
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E value) {
+            if (lastIndex < 0) throw new IllegalStateException();
+            checkForComodification();
+
+            lastChunk.items[lastOffset] = value;
+        }
+
+        @Override
+        public void add(E value) {
+            checkForComodification();
+
+            UnrolledCircularLinkedList.this.add(nextIndex, value);
+            moveTo(++nextIndex);
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * 다음에 읽을 위치를 index로 맞춤 (끝이면 마지막 노드의 끝, 비어있으면 더미 헤드)
+         */
+        private void moveTo(int index) {
+            nextIndex = index;
+            if (index < size) {
+                Position position = find(index);
+                chunk = position.chunk;
+                offset = position.offset;
+            } else {
+                chunk = head.prev;
+                offset = chunk.count;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+}
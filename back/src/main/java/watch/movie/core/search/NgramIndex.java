@@ -0,0 +1,350 @@
+package watch.movie.core.search;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * 문자 단위 bigram / trigram 역색인
+ * <p>
+ * 형태소 분석 없이 글자 단위로 잘라 색인하므로 한글도 그대로 부분 문자열 검색이 된다.
+ * 검색어가 3글자 이상이면 trigram, 2글자면 bigram으로 후보를 찾는다.
+ * 원문은 보관하지 않으므로, n-gram이 모두 있어도 서로 떨어져 있을 수 있는 긴 검색어({@link #needsVerification(String)})는
+ * 호출하는 쪽에서 원문으로 후보를 확인해야 한다.
+ * 문서는 필드 여러 개로 구성되며, 점수는 일치한 n-gram의 출현 횟수에 필드 가중치를 곱해 더한 값이다.
+ * 점수가 같으면 문서마다 받은 정렬 값(예: 등록일시)이 큰 순, 그 다음 id가 큰 순이다.
+ * <p>
+ * 문서를 수정하면 새 문서 번호로 다시 색인하고 이전 번호는 삭제 표시만 하며, 삭제된 문서가 많아지면 posting list를 압축한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 읽기 / 쓰기 잠금을 관리해야 한다.
+ */
+public class NgramIndex {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private static final int COMPACT_MIN_DEAD = 1024;
+
+    private final int[] fieldWeights;
+    private final Map<Long, PostingList>[] postings;
+    private final Map<Long, Integer> docById = new HashMap<>();
+    private BitSet live = new BitSet();
+    private long[] docIds = new long[256];
+    private long[] docOrders = new long[256];
+    private int nextDoc;
+    private int liveCount;
+
+    /**
+     * @param fieldWeights 필드별 가중치 (필드 수만큼)
+     */
+    @SuppressWarnings("unchecked")
+    public NgramIndex(int... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+        this.postings = new Map[fieldWeights.length];
+        for (int i = 0; i < fieldWeights.length; i++) {
+            postings[i] = new HashMap<>();
+        }
+    }
+
+    /**
+     * 문서를 색인, 같은 id가 이미 있으면 교체
+     * @param id 문서 id
+     * @param order 정렬 값 (점수가 같거나 {@link #searchBefore}에서 클수록 앞)
+     * @param fieldTexts 필드별 내용 (생성자의 가중치 순서)
+     */
+    public void put(long id, long order, String... fieldTexts) {
+        remove(id);
+
+        int doc = nextDoc++;
+        if (doc == docIds.length) {
+            docIds = Arrays.copyOf(docIds, doc * 2);
+            docOrders = Arrays.copyOf(docOrders, doc * 2);
+        }
+        docIds[doc] = id;
+        docOrders[doc] = order;
+        docById.put(id, doc);
+        live.set(doc);
+        liveCount++;
+
+        for (int field = 0; field < postings.length; field++) {
+            String text = field < fieldTexts.length ? normalize(fieldTexts[field]) : "";
+            if (text.length() < MIN_QUERY_LENGTH) continue;
+
+            Map<Long, Integer> frequencies = new HashMap<>();
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= text.length(); i++) {
+                    frequencies.merge(gramKey(text, i, n), 1, Integer::sum);
+                }
+            }
+
+            Map<Long, PostingList> fieldPostings = postings[field];
+            for (Map.Entry<Long, Integer> entry : frequencies.entrySet()) {
+                fieldPostings.computeIfAbsent(entry.getKey(), key -> new PostingList()).add(doc, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제외
+     * @return 색인되어 있던 문서면 true
+     */
+    public boolean remove(long id) {
+        Integer doc = docById.remove(id);
+        if (doc == null) return false;
+
+        live.clear(doc);
+        liveCount--;
+
+        int dead = nextDoc - liveCount;
+        if (dead >= COMPACT_MIN_DEAD && dead > liveCount) compact();
+        return true;
+    }
+
+    /**
+     * 모든 검색 조건을 만족하는 문서를 점수 순으로 검색
+     * @param fieldQueries 필드별 검색어 (조건이 없는 필드는 null)
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 점수 내림차순(같으면 정렬 값, id 내림차순)의 문서 id
+     */
+    public List<Long> search(String[] fieldQueries, long offset, int limit) {
+        Hits hits = match(fieldQueries);
+        if (hits.size <= offset) return List.of();
+
+        Comparator<Integer> byScore = Comparator.comparingInt(i -> hits.scores[i]);
+        return ranked(hits, byScore.reversed().thenComparing(latestFirst(hits)), offset, limit);
+    }
+
+    /**
+     * 모든 검색 조건을 만족하는 문서 중 (정렬 값, id)가 기준보다 작은 문서를 정렬 값 순으로 검색 (keyset 페이징용)
+     * @param order 직전 페이지 마지막 문서의 정렬 값 (첫 페이지면 {@link Long#MAX_VALUE})
+     * @param id 직전 페이지 마지막 문서의 id (첫 페이지면 {@link Long#MAX_VALUE})
+     * @param limit 반환할 최대 결과 수
+     * @return 정렬 값, id 내림차순의 문서 id
+     */
+    public List<Long> searchBefore(String[] fieldQueries, long order, long id, int limit) {
+        Hits hits = match(fieldQueries).filter(doc -> docOrders[doc] < order || docOrders[doc] == order && docIds[doc] < id);
+        return ranked(hits, latestFirst(hits), 0, limit);
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * 색인으로 검색할 수 있는 검색어인지 여부 (앞뒤 공백을 뺀 {@link #MIN_QUERY_LENGTH}글자 이상)
+     */
+    public static boolean isSearchable(String query) {
+        return normalizeQuery(query).length() >= MIN_QUERY_LENGTH;
+    }
+
+    /**
+     * 검색 결과를 원문으로 확인해야 하는 검색어인지 여부
+     * 3글자 이하는 n-gram 하나와 같으므로 색인 결과가 정확하고, 더 길면 n-gram이 떨어져 있는 문서도 후보에 포함된다.
+     */
+    public static boolean needsVerification(String query) {
+        return normalizeQuery(query).length() > 3;
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거 후 {@link #normalize(String)})
+     * DB에서 같은 조건으로 확인할 수 있도록 대소문자만 구분하지 않는다.
+     */
+    public static String normalizeQuery(String query) {
+        return query == null ? "" : normalize(query.strip());
+    }
+
+    /**
+     * 글자 단위 소문자 변환 (글자 수는 바뀌지 않음)
+     */
+    static String normalize(String text) {
+        if (text == null) return "";
+
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 모든 필드 조건을 만족하는 문서와 점수 (조건이 없으면 빈 결과)
+     */
+    private Hits match(String[] fieldQueries) {
+        Hits hits = null;
+        for (int field = 0; field < postings.length && field < fieldQueries.length; field++) {
+            String query = normalizeQuery(fieldQueries[field]);
+            if (query.isEmpty()) continue;
+
+            Hits fieldHits = searchField(field, query);
+            hits = hits == null ? fieldHits : hits.intersect(fieldHits);
+            if (hits.size == 0) break;
+        }
+        return hits == null ? Hits.EMPTY : hits;
+    }
+
+    /**
+     * 정렬 값, id 내림차순 (hits 안의 위치 비교)
+     */
+    private Comparator<Integer> latestFirst(Hits hits) {
+        Comparator<Integer> byOrder = Comparator.comparingLong(i -> docOrders[hits.docs[i]]);
+        Comparator<Integer> byId = Comparator.comparingLong(i -> docIds[hits.docs[i]]);
+        return byOrder.reversed().thenComparing(byId.reversed());
+    }
+
+    private List<Long> ranked(Hits hits, Comparator<Integer> comparator, long offset, int limit) {
+        if (hits.size <= offset) return List.of();
+
+        Integer[] positions = new Integer[hits.size];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, comparator);
+
+        int end = (int) Math.min(hits.size, offset + limit);
+        List<Long> ids = new ArrayList<>(end - (int) offset);
+        for (int i = (int) offset; i < end; i++) {
+            ids.add(docIds[hits.docs[positions[i]]]);
+        }
+        return ids;
+    }
+
+    private Hits searchField(int field, String query) {
+        int n = query.length() >= 3 ? 3 : 2;
+        if (query.length() < n) return Hits.EMPTY;
+
+        long[] keys = new long[query.length() - n + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = gramKey(query, i, n);
+        }
+        keys = Arrays.stream(keys).distinct().toArray();
+
+        PostingList[] lists = new PostingList[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            lists[i] = postings[field].get(keys[i]);
+            if (lists[i] == null) return Hits.EMPTY;
+        }
+        // 짧은 posting list부터 교집합
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::count));
+
+        Hits hits = new Hits(lists[0].count());
+        PostingList.Cursor first = lists[0].cursor();
+        while (first.next()) {
+            if (live.get(first.doc())) hits.add(first.doc(), first.frequency());
+        }
+        for (int i = 1; i < lists.length && hits.size > 0; i++) {
+            hits = hits.intersect(lists[i].cursor());
+        }
+
+        int weight = fieldWeights[field];
+        for (int i = 0; i < hits.size; i++) {
+            hits.scores[i] *= weight;
+        }
+        return hits;
+    }
+
+    /**
+     * 삭제된 문서를 posting list에서 제거하고 문서 번호를 순서대로 다시 매김
+     */
+    private void compact() {
+        int[] remap = new int[nextDoc];
+        long[] compactedIds = new long[Math.max(256, liveCount * 2)];
+        long[] compactedOrders = new long[compactedIds.length];
+        BitSet compactedLive = new BitSet(liveCount);
+        int doc = 0;
+        for (int old = 0; old < nextDoc; old++) {
+            if (live.get(old)) {
+                remap[old] = doc;
+                compactedIds[doc] = docIds[old];
+                compactedOrders[doc] = docOrders[old];
+                compactedLive.set(doc);
+                docById.put(docIds[old], doc);
+                doc++;
+            } else {
+                remap[old] = -1;
+            }
+        }
+
+        for (Map<Long, PostingList> fieldPostings : postings) {
+            Iterator<Map.Entry<Long, PostingList>> iterator = fieldPostings.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, PostingList> entry = iterator.next();
+                PostingList compacted = entry.getValue().compact(remap);
+                if (compacted.count() == 0) iterator.remove();
+                else entry.setValue(compacted);
+            }
+        }
+
+        docIds = compactedIds;
+        docOrders = compactedOrders;
+        live = compactedLive;
+        nextDoc = doc;
+    }
+
+    private static long gramKey(String text, int start, int n) {
+        long key = n;
+        for (int i = 0; i < n; i++) {
+            key = (key << 16) | text.charAt(start + i);
+        }
+        return key;
+    }
+
+    /**
+     * 문서 번호 오름차순의 검색 결과와 점수
+     */
+    private static final class Hits {
+        private static final Hits EMPTY = new Hits(0);
+
+        private final int[] docs;
+        private final int[] scores;
+        private int size;
+
+        private Hits(int capacity) {
+            this.docs = new int[capacity];
+            this.scores = new int[capacity];
+        }
+
+        private void add(int doc, int score) {
+            docs[size] = doc;
+            scores[size] = score;
+            size++;
+        }
+
+        private Hits intersect(PostingList.Cursor cursor) {
+            Hits result = new Hits(size);
+            int i = 0;
+            while (i < size && cursor.next()) {
+                while (i < size && docs[i] < cursor.doc()) i++;
+                if (i < size && docs[i] == cursor.doc()) {
+                    result.add(docs[i], scores[i] + cursor.frequency());
+                    i++;
+                }
+            }
+            return result;
+        }
+
+        private Hits filter(IntPredicate condition) {
+            Hits result = new Hits(size);
+            for (int i = 0; i < size; i++) {
+                if (condition.test(docs[i])) result.add(docs[i], scores[i]);
+            }
+            return result;
+        }
+
+        private Hits intersect(Hits other) {
+            Hits result = new Hits(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (docs[i] < other.docs[j]) i++;
+                else if (docs[i] > other.docs[j]) j++;
+                else {
+                    result.add(docs[i], scores[i] + other.scores[j]);
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package watch.movie.core.search;
+
+import java.util.Arrays;
+
+/**
+ * 문서 번호 오름차순의 posting list
+ * (직전 문서 번호와의 차이, 출현 횟수)를 varint로 이어 붙여 byte 배열 하나에 압축 저장한다.
+ * 문서 번호는 항상 증가하는 값만 추가할 수 있다.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int count;
+    private int lastDoc = -1;
+
+    void add(int doc, int frequency) {
+        if (doc <= lastDoc) throw new IllegalArgumentException("doc must be increasing : " + doc);
+
+        ensureCapacity(10);
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        count++;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int lastDoc() {
+        return lastDoc;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 살아있는 문서만 남기고 문서 번호를 다시 매긴 posting list
+     * @param remap 기존 문서 번호 -> 새 문서 번호 (삭제된 문서는 -1)
+     */
+    PostingList compact(int[] remap) {
+        PostingList compacted = new PostingList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            int doc = remap[cursor.doc()];
+            if (doc >= 0) compacted.add(doc, cursor.frequency());
+        }
+        return compacted;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(length + extra, data.length * 2));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * 앞에서부터 순서대로 읽는 cursor
+     */
+    final class Cursor {
+        private int position;
+        private int doc = -1;
+        private int frequency;
+
+        boolean next() {
+            if (position >= length) return false;
+            doc += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package watch.movie.domain.member.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import watch.movie.base.RoleCode;
+import watch.movie.base.SliceResponse;
 import watch.movie.base.StatusCode;
+import watch.movie.domain.member.dto.MemberBulkResultDto;
+import watch.movie.domain.member.dto.MemberBulkRoleDto;
 import watch.movie.domain.member.dto.MemberDto;
+import watch.movie.domain.member.dto.MemberImportResultDto;
+import watch.movie.domain.member.dto.MemberSummaryDto;
+import watch.movie.domain.member.dto.cond.MemberSearchCond;
+import watch.movie.domain.member.service.MemberExportWriter;
+import watch.movie.domain.member.service.MemberImporter;
 import watch.movie.domain.member.service.MemberService;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 @RestController
@@ -18,12 +31,27 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberImporter memberImporter;
 
     @GetMapping("/members")
-    public List<MemberDto> allMember() {
-        log.info("MemberController.allMember -> {}", "전체 사용자 조회");
+    public SliceResponse<MemberSummaryDto> allMember(@ModelAttribute MemberSearchCond cond,
+                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                     @RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("MemberController.allMember -> {}", "사용자 목록 조회");
 
-        return memberService.findAll();
+        return memberService.findAllByCursor(cond, cursor, size);
+    }
+
+    @GetMapping("/members/export")
+    public void exportMember(@ModelAttribute MemberSearchCond cond,
+                             @RequestParam(value = "format", defaultValue = "csv") String format,
+                             HttpServletResponse response) throws IOException {
+        log.info("MemberController.exportMember -> {}", "사용자 목록 내보내기 : " + format);
+
+        MemberExportWriter.Format exportFormat = MemberExportWriter.Format.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.getFileName() + "\"");
+        memberService.export(cond, exportFormat, response.getOutputStream());
     }
 
     @PostMapping("/member/join")
@@ -50,4 +78,31 @@ public class MemberController {
         return StatusCode.SUCCESS;
     }
 
+    @PostMapping("/members/approve")
+    public ResponseEntity<MemberBulkResultDto> approveMembers(@RequestBody MemberBulkRoleDto dto) {
+        log.info("MemberController.approveMembers -> {}", "가입 대기 회원 일괄 승인");
+
+        try {
+            return ResponseEntity.ok(memberService.approveAll(dto.getIds(), dto.getRole()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/members/reject")
+    public ResponseEntity<MemberBulkResultDto> rejectMembers(@RequestBody MemberBulkRoleDto dto) {
+        log.info("MemberController.rejectMembers -> {}", "가입 대기 회원 일괄 거절");
+
+        return ResponseEntity.ok(memberService.rejectAll(dto.getIds()));
+    }
+
+    @PostMapping("/members/import")
+    public MemberImportResultDto importMembers(@RequestParam("file") MultipartFile file) throws IOException {
+        log.info("MemberController.importMembers -> {}", "회원 일괄 등록 : " + file.getOriginalFilename());
+
+        try (InputStream in = file.getInputStream()) {
+            return memberImporter.importCsv(in);
+        }
+    }
+
 }
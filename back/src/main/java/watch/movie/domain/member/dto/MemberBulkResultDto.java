@@ -0,0 +1,34 @@
+package watch.movie.domain.member.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 처리 결과와 batch별 소요 시간
+ */
+@Getter
+public class MemberBulkResultDto {
+
+    private int requested;
+    private int affected;
+    private long elapsedMillis;
+    private final List<Batch> batches = new ArrayList<>();
+
+    public void add(int size, int affected, long elapsedMillis) {
+        batches.add(new Batch(batches.size(), size, affected, elapsedMillis));
+        this.requested += size;
+        this.affected += affected;
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    /**
+     * @param index batch 순번 (0부터)
+     * @param size batch에 담긴 아이디 수
+     * @param affected 실제로 변경된 회원 수 (이미 처리된 회원은 제외)
+     * @param elapsedMillis 쿼리 소요 시간
+     */
+    public record Batch(int index, int size, int affected, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,16 @@
+package watch.movie.domain.member.dto;
+
+import lombok.Data;
+import watch.movie.base.RoleCode;
+
+import java.util.List;
+
+/**
+ * 가입 대기 회원 일괄 승인 / 거절 요청
+ */
+@Data
+public class MemberBulkRoleDto {
+    private List<String> ids;
+    /** 승인시 부여할 권한 (거절시 사용하지 않음) */
+    private RoleCode role;
+}
@@ -0,0 +1,45 @@
+package watch.movie.domain.member.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 일괄 등록 결과
+ * 실패한 행은 최대 {@value MAX_FAILURES}건까지만 담고, 건수는 모두 센다.
+ */
+@Getter
+public class MemberImportResultDto {
+
+    public static final int MAX_FAILURES = 1000;
+
+    private long total;
+    private long inserted;
+    private long failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private final List<Failure> failures = new ArrayList<>();
+
+    public void inserted() {
+        total++;
+        inserted++;
+    }
+
+    public void failed(long line, String id, String reason) {
+        total++;
+        failed++;
+        if (failures.size() < MAX_FAILURES) failures.add(new Failure(line, id, reason));
+    }
+
+    public void finish(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis == 0 ? total : total * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * @param line CSV 줄 번호 (1부터, 헤더 포함)
+     */
+    public record Failure(long line, String id, String reason) {
+    }
+}
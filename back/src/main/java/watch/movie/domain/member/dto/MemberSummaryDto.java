@@ -0,0 +1,29 @@
+package watch.movie.domain.member.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import watch.movie.base.RoleCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 회원 목록용 요약 (비밀번호 제외)
+ */
+@Data
+@NoArgsConstructor
+public class MemberSummaryDto {
+
+    private String id;
+    private String name;
+    private String birthday;
+    private RoleCode role;
+    private LocalDateTime joinDate;
+
+    public MemberSummaryDto(String id, String name, String birthday, RoleCode role, LocalDateTime joinDate) {
+        this.id = id;
+        this.name = name;
+        this.birthday = birthday;
+        this.role = role;
+        this.joinDate = joinDate;
+    }
+}
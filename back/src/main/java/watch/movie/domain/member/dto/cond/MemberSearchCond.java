@@ -0,0 +1,23 @@
+package watch.movie.domain.member.dto.cond;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import watch.movie.base.RoleCode;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 검색 조건 (비어있는 조건은 적용하지 않음)
+ */
+@Data
+public class MemberSearchCond {
+    private RoleCode role;
+    /** 이름 앞부분 */
+    private String name;
+    /** 가입일 시작 (포함) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinFrom;
+    /** 가입일 끝 (포함) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinTo;
+}
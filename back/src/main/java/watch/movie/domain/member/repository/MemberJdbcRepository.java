@@ -0,0 +1,139 @@
+package watch.movie.domain.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import watch.movie.base.RoleCode;
+import watch.movie.domain.member.dto.MemberDto;
+import watch.movie.domain.member.dto.MemberSummaryDto;
+import watch.movie.domain.member.dto.cond.MemberSearchCond;
+import watch.movie.utility.ItemCheck;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JPA로 표현하기 어려운 회원 쿼리 (PostgreSQL)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberJdbcRepository {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String INSERT_IF_ABSENT = """
+            insert into member (member_id, name, password, birthday, role, create_by, update_by, create_date, update_date)
+            values (?, ?, ?, ?, 'NOT_ALLOW', ?, ?, now(), now())
+            on conflict (member_id) do nothing
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞는 회원을 아이디순으로 한 건씩 전달
+     * 전방향 cursor로 {@value FETCH_SIZE}건씩 나눠 가져오므로 회원 수와 관계없이 메모리 사용량이 일정하다.
+     * (PostgreSQL은 auto commit이 꺼져 있어야 나눠 가져오므로 트랜잭션 안에서 호출해야 함)
+     * @param action 회원마다 호출할 함수
+     */
+    public void forEach(MemberSearchCond cond, Consumer<MemberSummaryDto> action) {
+        StringBuilder sql = new StringBuilder("select member_id, name, birthday, role, create_date from member where 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (ItemCheck.isNotEmpty(cond.getRole())) {
+            sql.append(" and role = ?");
+            args.add(cond.getRole().name());
+        }
+        if (ItemCheck.isNotEmpty(cond.getName())) {
+            sql.append(" and name like ? escape '!'");
+            args.add(cond.getName().replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%");
+        }
+        if (ItemCheck.isNotEmpty(cond.getJoinFrom())) {
+            sql.append(" and create_date >= ?");
+            args.add(Timestamp.valueOf(cond.getJoinFrom().atStartOfDay()));
+        }
+        if (ItemCheck.isNotEmpty(cond.getJoinTo())) {
+            sql.append(" and create_date < ?");
+            args.add(Timestamp.valueOf(cond.getJoinTo().plusDays(1).atStartOfDay()));
+        }
+        sql.append(" order by member_id");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            String role = rs.getString(4);
+            Timestamp createDate = rs.getTimestamp(5);
+            action.accept(new MemberSummaryDto(
+                    rs.getString(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    role == null ? null : RoleCode.valueOf(role),
+                    createDate == null ? null : createDate.toLocalDateTime()));
+        });
+    }
+
+    /**
+     * 가입 대기(NOT_ALLOW) 회원으로 저장, 같은 아이디가 이미 있으면 아무것도 하지 않음
+     * 기본키 제약으로 중복을 확인하므로 조회 없이 한 번에 처리되고 동시에 가입해도 한 명만 저장된다.
+     * JPA auditing을 거치지 않으므로 create_by / update_by는 직접 받는다.
+     * @param member 비밀번호는 해시된 값
+     * @param createBy 등록자 (create_by, update_by)
+     * @return 저장했으면 true
+     */
+    public boolean insertIfAbsent(MemberDto member, String createBy) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT,
+                member.getId(), member.getName(), member.getPassword(), member.getBirthday(), createBy, createBy) > 0;
+    }
+
+    /**
+     * 여러 회원을 JDBC batch 한 번으로 저장 (이미 있는 아이디는 건너뜀)
+     * @param members 비밀번호는 해시된 값
+     * @param createBy 등록자 (create_by, update_by)
+     * @return 회원별 저장 건수 (중복이면 0)
+     */
+    public int[] insertAllIfAbsent(List<MemberDto> members, String createBy) {
+        return jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                MemberDto member = members.get(i);
+                ps.setString(1, member.getId());
+                ps.setString(2, member.getName());
+                ps.setString(3, member.getPassword());
+                ps.setString(4, member.getBirthday());
+                ps.setString(5, createBy);
+                ps.setString(6, createBy);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return members.size();
+            }
+        });
+    }
+
+    /**
+     * 가입 대기(NOT_ALLOW) 회원의 권한을 한 번의 update로 변경
+     * 아이디를 배열 하나로 바인딩하므로 건수와 관계없이 같은 SQL을 재사용한다.
+     * @return 변경된 회원 수
+     */
+    public int updatePendingRole(List<String> ids, RoleCode role, String updateBy) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    update member set role = ?, update_by = ?, update_date = now()
+                    where role = 'NOT_ALLOW' and member_id = any(?)
+                    """);
+            ps.setString(1, role.name());
+            ps.setString(2, updateBy);
+            ps.setArray(3, con.createArrayOf("varchar", ids.toArray()));
+            return ps;
+        });
+    }
+}
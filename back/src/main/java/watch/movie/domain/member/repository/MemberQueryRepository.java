@@ -1,12 +1,70 @@
 package watch.movie.domain.member.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import watch.movie.domain.member.dto.MemberSummaryDto;
+import watch.movie.domain.member.dto.cond.MemberSearchCond;
+import watch.movie.utility.ItemCheck;
+
+import java.util.List;
+
+import static watch.movie.entity.QMember.member;
 
 @Repository
 @RequiredArgsConstructor
 public class MemberQueryRepository {
 
     private final JPAQueryFactory query;
+
+    /**
+     * 아이디순 keyset 페이징 조회 (비밀번호는 조회하지 않음)
+     * @param afterId 직전 페이지의 마지막 아이디 (첫 페이지면 null)
+     * @param size 조회할 개수 (다음 페이지 여부 판단을 위해 호출하는 쪽에서 1을 더해서 전달)
+     */
+    public List<MemberSummaryDto> findAllByCursor(MemberSearchCond cond, String afterId, int size) {
+        return query
+                .select(Projections.constructor(MemberSummaryDto.class,
+                        member.id,
+                        member.name,
+                        member.birthday,
+                        member.role,
+                        member.createDate))
+                .from(member)
+                .where(
+                        eqRole(cond),
+                        startsWithName(cond),
+                        joinFrom(cond),
+                        joinTo(cond),
+                        afterId(afterId)
+                )
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 검색 조건 함수
+     */
+    private BooleanExpression eqRole(MemberSearchCond cond) {
+        return ItemCheck.isEmpty(cond.getRole()) ? null : member.role.eq(cond.getRole());
+    }
+
+    private BooleanExpression startsWithName(MemberSearchCond cond) {
+        return ItemCheck.isEmpty(cond.getName()) ? null : member.name.startsWith(cond.getName());
+    }
+
+    private BooleanExpression joinFrom(MemberSearchCond cond) {
+        return ItemCheck.isEmpty(cond.getJoinFrom()) ? null : member.createDate.goe(cond.getJoinFrom().atStartOfDay());
+    }
+
+    private BooleanExpression joinTo(MemberSearchCond cond) {
+        return ItemCheck.isEmpty(cond.getJoinTo()) ? null : member.createDate.lt(cond.getJoinTo().plusDays(1).atStartOfDay());
+    }
+
+    private BooleanExpression afterId(String afterId) {
+        return ItemCheck.isEmpty(afterId) ? null : member.id.gt(afterId);
+    }
 }
@@ -0,0 +1,146 @@
+package watch.movie.domain.member.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import watch.movie.domain.member.dto.MemberSummaryDto;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 내보내기 파일을 한 건씩 바로 출력 스트림에 쓰는 writer
+ * 전체 목록을 모으지 않으므로 회원 수와 관계없이 버퍼 크기만큼만 메모리를 사용한다.
+ */
+public abstract class MemberExportWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public enum Format {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        JSON("application/json", "json");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileName() {
+            return "members." + extension;
+        }
+
+        /**
+         * @return 모르는 형식이면 CSV
+         */
+        public static Format from(String format) {
+            return "json".equalsIgnoreCase(format) ? JSON : CSV;
+        }
+    }
+
+    public static MemberExportWriter of(Format format, OutputStream out) throws IOException {
+        return format == Format.JSON ? new Json(out) : new Csv(out);
+    }
+
+    /**
+     * 회원 한 건 출력
+     */
+    public void write(MemberSummaryDto member) {
+        try {
+            writeRow(member);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void writeRow(MemberSummaryDto member) throws IOException;
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * 엑셀에서 한글이 깨지지 않도록 BOM을 붙인 RFC 4180 CSV
+     */
+    private static final class Csv extends MemberExportWriter {
+        private final Writer writer;
+
+        private Csv(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write('\uFEFF');
+            writer.write("id,name,birthday,role,joinDate\r\n");
+        }
+
+        @Override
+        protected void writeRow(MemberSummaryDto member) throws IOException {
+            cell(member.getId());
+            writer.write(',');
+            cell(member.getName());
+            writer.write(',');
+            cell(member.getBirthday());
+            writer.write(',');
+            cell(text(member.getRole()));
+            writer.write(',');
+            cell(text(member.getJoinDate()));
+            writer.write("\r\n");
+        }
+
+        private void cell(String value) throws IOException {
+            if (value == null || value.isEmpty()) return;
+
+            // 엑셀에서 수식으로 실행되지 않도록 앞에 ' 를 붙임
+            boolean formula = "=+-@".indexOf(value.charAt(0)) >= 0;
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+
+            writer.write('"');
+            if (formula) writer.write('\'');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * 회원 객체의 JSON 배열
+     */
+    private static final class Json extends MemberExportWriter {
+        private final JsonGenerator generator;
+
+        private Json(OutputStream out) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            generator.writeStartArray();
+        }
+
+        @Override
+        protected void writeRow(MemberSummaryDto member) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", member.getId());
+            generator.writeStringField("name", member.getName());
+            generator.writeStringField("birthday", member.getBirthday());
+            generator.writeStringField("role", text(member.getRole()));
+            generator.writeStringField("joinDate", text(member.getJoinDate()));
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeEndArray();
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package watch.movie.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import watch.movie.domain.member.dto.MemberDto;
+import watch.movie.domain.member.dto.MemberImportResultDto;
+import watch.movie.domain.member.repository.MemberJdbcRepository;
+import watch.movie.security.PasswordHashingService;
+import watch.movie.utility.ItemCheck;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV(id,name,password,birthday) 회원 일괄 등록
+ * <ul>
+ *     <li>파일을 한 줄씩 읽어 {@value BATCH_SIZE}건씩 처리하므로 파일 크기와 관계없이 메모리 사용량이 일정함</li>
+ *     <li>비밀번호는 {@link PasswordHashingService}의 일괄 작업용 스레드풀에서 병렬로 해시</li>
+ *     <li>저장은 batch마다 JDBC batch insert 한 번이며, 이미 있는 아이디는 해당 행만 실패로 기록</li>
+ *     <li>batch insert가 실패하면 그 batch만 한 건씩 다시 저장해서 실패한 행을 찾아 기록</li>
+ * </ul>
+ * batch마다 바로 반영하므로 중간에 실패해도 그 전까지 저장된 회원은 유지된다. 등록된 회원은 가입 대기(NOT_ALLOW) 상태이며 등록자는 요청한 관리자이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberImporter {
+
+    private static final int BATCH_SIZE = 500;
+    // member 테이블의 varchar(255)
+    private static final int MAX_COLUMN_LENGTH = 255;
+    // BCrypt는 72 bytes까지만 사용
+    private static final int MAX_PASSWORD_BYTES = 72;
+
+    private final MemberJdbcRepository jdbcRepository;
+    private final PasswordHashingService hashingService;
+    private final AuditorAware<String> auditorAware;
+
+    public MemberImportResultDto importCsv(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        MemberImportResultDto result = new MemberImportResultDto();
+        String createBy = auditorAware.getCurrentAuditor().orElse(null);
+        List<MemberDto> batch = new ArrayList<>(BATCH_SIZE);
+        List<Long> lines = new ArrayList<>(BATCH_SIZE);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') line = line.substring(1);
+            if (line.isBlank()) continue;
+
+            List<String> cells = parseLine(line);
+            if (lineNumber == 1 && "id".equalsIgnoreCase(cells.get(0).trim())) continue;
+
+            String id = cells.get(0).trim();
+            String reason = validate(id, cells);
+            if (reason != null) {
+                result.failed(lineNumber, id, reason);
+                continue;
+            }
+
+            MemberDto member = new MemberDto();
+            member.setId(id);
+            member.setName(cells.get(1));
+            member.setPassword(cells.get(2));
+            member.setBirthday(cells.size() > 3 ? cells.get(3) : null);
+            batch.add(member);
+            lines.add(lineNumber);
+
+            if (batch.size() == BATCH_SIZE) {
+                insert(batch, lines, createBy, result);
+                batch.clear();
+                lines.clear();
+            }
+        }
+        if (!batch.isEmpty()) insert(batch, lines, createBy, result);
+
+        result.finish(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("MemberImporter.importCsv -> {} rows, {} inserted, {} failed, {} ms",
+                result.getTotal(), result.getInserted(), result.getFailed(), result.getElapsedMillis());
+        return result;
+    }
+
+    private void insert(List<MemberDto> batch, List<Long> lines, String createBy, MemberImportResultDto result) {
+        List<String> encoded = hashingService.encodeAll(batch.stream().map(MemberDto::getPassword).toList());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).setPassword(encoded.get(i));
+        }
+
+        int[] counts;
+        try {
+            counts = jdbcRepository.insertAllIfAbsent(batch, createBy);
+        } catch (DataAccessException e) {
+            // batch 전체가 rollback되므로 한 건씩 다시 저장
+            log.warn("MemberImporter.insert -> batch insert 실패, 한 건씩 다시 저장 : lines {} ~ {}",
+                    lines.get(0), lines.get(lines.size() - 1), e);
+            insertEach(batch, lines, createBy, result);
+            return;
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) result.failed(lines.get(i), batch.get(i).getId(), "중복 아이디");
+            else result.inserted();
+        }
+    }
+
+    private void insertEach(List<MemberDto> batch, List<Long> lines, String createBy, MemberImportResultDto result) {
+        for (int i = 0; i < batch.size(); i++) {
+            MemberDto member = batch.get(i);
+            try {
+                if (jdbcRepository.insertIfAbsent(member, createBy)) result.inserted();
+                else result.failed(lines.get(i), member.getId(), "중복 아이디");
+            } catch (DataAccessException e) {
+                result.failed(lines.get(i), member.getId(), "저장 실패 : " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * member 테이블 제약에 맞는지 확인
+     * @return 실패 사유 (정상이면 null)
+     */
+    private static String validate(String id, List<String> cells) {
+        if (cells.size() < 3) return "항목 수 부족";
+        if (ItemCheck.isEmpty(id)) return "아이디 없음";
+        if (ItemCheck.isEmpty(cells.get(2))) return "비밀번호 없음";
+        for (String cell : cells) {
+            // PostgreSQL 문자열에는 NUL을 저장할 수 없음
+            if (cell.indexOf('\0') >= 0) return "허용되지 않는 문자 포함";
+        }
+        if (tooLong(id)) return "아이디 길이 초과";
+        if (tooLong(cells.get(1))) return "이름 길이 초과";
+        if (cells.get(2).getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) return "비밀번호 길이 초과";
+        if (cells.size() > 3 && tooLong(cells.get(3))) return "생년월일 길이 초과";
+        return null;
+    }
+
+    /**
+     * varchar 길이는 문자 수(code point) 기준
+     */
+    private static boolean tooLong(String value) {
+        return value.length() > MAX_COLUMN_LENGTH && value.codePointCount(0, value.length()) > MAX_COLUMN_LENGTH;
+    }
+
+    /**
+     * RFC 4180 CSV 한 줄을 항목으로 분리 (따옴표 안의 줄바꿈은 지원하지 않음)
+     */
+    static List<String> parseLine(String line) {
+        List<String> cells = new ArrayList<>(4);
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') cell.append(c);
+                else if (i + 1 < line.length() && line.charAt(i + 1) == '"') cell.append(line.charAt(++i));
+                else quoted = false;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
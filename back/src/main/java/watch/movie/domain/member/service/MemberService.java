@@ -2,39 +2,59 @@ package watch.movie.domain.member.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import watch.movie.base.RoleCode;
+import watch.movie.base.SliceResponse;
+import watch.movie.domain.member.dto.MemberBulkResultDto;
 import watch.movie.domain.member.dto.MemberDto;
+import watch.movie.domain.member.dto.MemberSummaryDto;
+import watch.movie.domain.member.dto.cond.MemberSearchCond;
+import watch.movie.domain.member.repository.MemberJdbcRepository;
 import watch.movie.domain.member.repository.MemberJpaRepository;
 import watch.movie.domain.member.repository.MemberQueryRepository;
 import watch.movie.entity.Member;
 import watch.movie.utility.ItemCheck;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int BULK_BATCH_SIZE = 1000;
+
     private final MemberJpaRepository jpaRepository;
     private final PasswordEncoder passwordEncoder;
     private final MemberQueryRepository queryRepository;
+    private final MemberJdbcRepository jdbcRepository;
+    private final AuditorAware<String> auditorAware;
 
+    /**
+     * 회원가입 (아이디 중복은 기본키 제약으로 확인)
+     * JPA auditing을 거치지 않으므로 등록자는 {@link AuditorAware}에서 직접 가져온다.
+     */
     @Transactional
     public void join(MemberDto dto) {
-        Member findMember = jpaRepository.findById(dto.getId()).orElse(null);
+        MemberDto saveMember = new MemberDto();
+        saveMember.setId(dto.getId());
+        saveMember.setName(dto.getName());
+        saveMember.setPassword(passwordEncoder.encode(dto.getPassword()));
+        saveMember.setBirthday(dto.getBirthday());
 
-        if (!ItemCheck.isEmpty(findMember)) {
+        if (!jdbcRepository.insertIfAbsent(saveMember, auditorAware.getCurrentAuditor().orElse(null))) {
             throw new DuplicateKeyException("중복 아이디 발견");
         }
-
-        Member saveMember = Member.of(dto.getId(), dto.getName(), passwordEncoder.encode(dto.getPassword()), dto.getBirthday());
-
-        jpaRepository.save(saveMember);
     }
 
     public Member findById(String id) {
@@ -45,15 +65,87 @@ public class MemberService {
     public void updateRole(String memberId, RoleCode role) {
         Member findMember = jpaRepository.findById(memberId).orElse(null);
 
-        if (!ItemCheck.isNotEmpty(findMember)) {
+        if (ItemCheck.isNotEmpty(findMember)) {
             findMember.changeRole(role);
         } else {
             throw new UsernameNotFoundException("사용자가 존재하지 않습니다.");
         }
     }
 
-    public List<MemberDto> findAll() {
-        return jpaRepository.findAll().stream().map(MemberDto::new).toList();
+    /**
+     * 가입 대기 회원을 batch 단위 update로 일괄 승인
+     * 이미 승인 / 거절된 회원은 건너뛴다.
+     * @param role 부여할 권한 (ADULT / NOT_ADULT)
+     */
+    @Transactional
+    public MemberBulkResultDto approveAll(List<String> ids, RoleCode role) {
+        if (role != RoleCode.ADULT && role != RoleCode.NOT_ADULT) {
+            throw new IllegalArgumentException("승인할 수 없는 권한 : " + role);
+        }
+
+        String updateBy = auditorAware.getCurrentAuditor().orElse(null);
+        return inBatches(ids, batch -> jdbcRepository.updatePendingRole(batch, role, updateBy));
+    }
+
+    /**
+     * 가입 대기 회원을 batch 단위 update로 일괄 거절 (REJECTED로 변경하고 회원 정보는 남겨둠)
+     * 이미 승인 / 거절된 회원은 건너뛴다.
+     */
+    @Transactional
+    public MemberBulkResultDto rejectAll(List<String> ids) {
+        String updateBy = auditorAware.getCurrentAuditor().orElse(null);
+        return inBatches(ids, batch -> jdbcRepository.updatePendingRole(batch, RoleCode.REJECTED, updateBy));
+    }
+
+    /**
+     * 중복을 제거한 아이디를 BULK_BATCH_SIZE개씩 나눠 실행하고 batch별 소요 시간을 기록
+     */
+    private MemberBulkResultDto inBatches(List<String> ids, ToIntFunction<List<String>> statement) {
+        List<String> distinct = ids == null ? List.of() : ids.stream().filter(ItemCheck::isNotEmpty).distinct().toList();
+
+        MemberBulkResultDto result = new MemberBulkResultDto();
+        for (int from = 0; from < distinct.size(); from += BULK_BATCH_SIZE) {
+            List<String> batch = distinct.subList(from, Math.min(from + BULK_BATCH_SIZE, distinct.size()));
+            long start = System.nanoTime();
+            int affected = statement.applyAsInt(batch);
+            result.add(batch.size(), affected, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return result;
+    }
+
+    /**
+     * 이미 해시된 비밀번호로 교체
+     * @param memberId 사용자 아이디
+     * @param encodedPassword 해시된 비밀번호
+     */
+    @Transactional
+    public void changePassword(String memberId, String encodedPassword) {
+        Member findMember = jpaRepository.findById(memberId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자가 존재하지 않습니다."));
+
+        findMember.changePassword(encodedPassword);
+    }
+
+    /**
+     * 아이디순 keyset 페이징 조회 (COUNT 없이 size + 1건으로 다음 페이지 여부 판단)
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 비어있음)
+     */
+    public SliceResponse<MemberSummaryDto> findAllByCursor(MemberSearchCond cond, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<MemberSummaryDto> rows = queryRepository.findAllByCursor(cond, cursor, pageSize + 1);
+
+        return SliceResponse.of(rows, pageSize, MemberSummaryDto::getId);
+    }
+
+    /**
+     * 조건에 맞는 회원 전체를 읽는 대로 출력 스트림에 씀
+     */
+    public void export(MemberSearchCond cond, MemberExportWriter.Format format, OutputStream out) throws IOException {
+        try (MemberExportWriter writer = MemberExportWriter.of(format, out)) {
+            jdbcRepository.forEach(cond, writer::write);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
 }
@@ -0,0 +1,90 @@
+package watch.movie.domain.menu.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import watch.movie.base.StatusCode;
+import watch.movie.domain.menu.dto.MenuDto;
+import watch.movie.domain.menu.service.MenuService;
+import watch.movie.domain.menu.service.MenuTreeCache;
+import watch.movie.domain.menu.service.MenuTreeCache.MenuTree;
+
+import java.rmi.NoSuchObjectException;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class MenuController {
+
+    private final MenuService menuService;
+    private final MenuTreeCache menuTreeCache;
+
+    /**
+     * 로그인한 사용자의 권한에 맞는 메뉴 트리 (미리 만들어 둔 JSON 바이트를 그대로 응답)
+     */
+    @GetMapping("/menus")
+    public ResponseEntity<byte[]> menuTree(WebRequest request) {
+        MenuTree tree = menuTreeCache.get(currentRole());
+        if (request.checkNotModified(tree.getEtag())) return null;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tree.getBody());
+    }
+
+    @GetMapping("/menu")
+    public List<MenuDto> allMenu() {
+        log.info("MenuController.allMenu -> {}", "전체 메뉴 조회");
+
+        return menuService.findAll();
+    }
+
+    @PostMapping("/menu")
+    public StatusCode saveMenu(@RequestBody MenuDto menu) {
+        log.info("MenuController.saveMenu -> {}", "메뉴 등록");
+
+        menuService.save(menu);
+        return StatusCode.SUCCESS;
+    }
+
+    @PutMapping("/menu/{id}")
+    public StatusCode updateMenu(@PathVariable("id") Long id, @RequestBody MenuDto menu) {
+        log.info("MenuController.updateMenu -> {}", "메뉴 수정 : " + id);
+
+        try {
+            menuService.updateMenu(id, menu);
+        } catch (NoSuchObjectException e) {
+            return StatusCode.MENU_NOT_FOUND;
+        }
+        return StatusCode.SUCCESS;
+    }
+
+    @DeleteMapping("/menu/{id}")
+    public StatusCode deleteMenu(@PathVariable("id") Long id) {
+        log.info("MenuController.deleteMenu -> {}", "메뉴 삭제 : " + id);
+
+        try {
+            menuService.deleteMenu(id);
+        } catch (NoSuchObjectException e) {
+            return StatusCode.MENU_NOT_FOUND;
+        }
+        return StatusCode.SUCCESS;
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) return MenuTreeCache.ANONYMOUS;
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(MenuTreeCache.ANONYMOUS);
+    }
+}
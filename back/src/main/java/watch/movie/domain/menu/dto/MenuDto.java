@@ -0,0 +1,28 @@
+package watch.movie.domain.menu.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import watch.movie.entity.base.MenuEntity;
+
+/**
+ * 메뉴 등록 / 수정 요청
+ * role은 메뉴를 볼 수 있는 권한(RoleCode)을 콤마로 구분해서 입력하고, 비어있으면 모든 사용자에게 보인다.
+ */
+@Data
+@NoArgsConstructor
+public class MenuDto {
+
+    private Long id;
+    private Integer priority;
+    private String name;
+    private String role;
+    private String path;
+
+    public MenuDto(MenuEntity menu) {
+        this.id = menu.getId();
+        this.priority = menu.getPriority();
+        this.name = menu.getName();
+        this.role = menu.getRole();
+        this.path = menu.getPath();
+    }
+}
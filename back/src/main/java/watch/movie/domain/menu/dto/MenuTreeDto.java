@@ -0,0 +1,26 @@
+package watch.movie.domain.menu.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메뉴 트리의 노드 (하위 메뉴는 priority 순)
+ */
+@Getter
+public class MenuTreeDto {
+
+    private final Long id;
+    private final String name;
+    private final String path;
+    private final Integer priority;
+    private final List<MenuTreeDto> children = new ArrayList<>();
+
+    public MenuTreeDto(MenuDto menu) {
+        this.id = menu.getId();
+        this.name = menu.getName();
+        this.path = menu.getPath();
+        this.priority = menu.getPriority();
+    }
+}
@@ -0,0 +1,14 @@
+package watch.movie.domain.menu.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메뉴가 등록 / 수정 / 삭제되었을 때 발행하는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class MenuChangedEvent {
+
+    private final Long id;
+}
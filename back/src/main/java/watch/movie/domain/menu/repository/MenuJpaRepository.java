@@ -0,0 +1,8 @@
+package watch.movie.domain.menu.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import watch.movie.entity.base.MenuEntity;
+
+public interface MenuJpaRepository extends JpaRepository<MenuEntity, Long> {
+
+}
@@ -0,0 +1,55 @@
+package watch.movie.domain.menu.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import watch.movie.domain.menu.dto.MenuDto;
+import watch.movie.domain.menu.event.MenuChangedEvent;
+import watch.movie.domain.menu.repository.MenuJpaRepository;
+import watch.movie.entity.base.MenuEntity;
+import watch.movie.utility.ItemCheck;
+
+import java.rmi.NoSuchObjectException;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MenuService {
+
+    private final MenuJpaRepository jpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<MenuDto> findAll() {
+        return jpaRepository.findAll().stream().map(MenuDto::new).toList();
+    }
+
+    @Transactional
+    public void save(MenuDto menu) {
+        MenuEntity saveMenu = jpaRepository.save(MenuEntity.of(menu));
+        eventPublisher.publishEvent(new MenuChangedEvent(saveMenu.getId()));
+    }
+
+    @Transactional
+    public void updateMenu(Long id, MenuDto menu) throws NoSuchObjectException {
+        MenuEntity findMenu = jpaRepository.findById(id).orElse(null);
+        if (ItemCheck.isEmpty(findMenu)) {
+            throw new NoSuchObjectException("메뉴가 존재하지 않습니다.");
+        }
+
+        findMenu.change(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(id));
+    }
+
+    @Transactional
+    public void deleteMenu(Long id) throws NoSuchObjectException {
+        MenuEntity findMenu = jpaRepository.findById(id).orElse(null);
+        if (ItemCheck.isEmpty(findMenu)) {
+            throw new NoSuchObjectException("메뉴가 존재하지 않습니다.");
+        }
+
+        jpaRepository.delete(findMenu);
+        eventPublisher.publishEvent(new MenuChangedEvent(id));
+    }
+}
@@ -0,0 +1,174 @@
+package watch.movie.domain.menu.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import watch.movie.base.RoleCode;
+import watch.movie.domain.menu.dto.MenuDto;
+import watch.movie.domain.menu.dto.MenuTreeDto;
+import watch.movie.domain.menu.event.MenuChangedEvent;
+import watch.movie.domain.menu.repository.MenuJpaRepository;
+import watch.movie.utility.ItemCheck;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 권한별 메뉴 트리를 JSON 바이트로 미리 만들어 두는 캐시
+ * <ul>
+ *     <li>애플리케이션 시작시, 메뉴 변경이 commit될 때마다 전체 메뉴를 한 번 읽어 모든 권한의 트리를 다시 만듦</li>
+ *     <li>트리는 path 기준 (/video/movie는 /video의 하위), 같은 단계는 priority 순</li>
+ *     <li>조회는 권한으로 map을 한 번 찾는 것이 전부</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuTreeCache {
+
+    /**
+     * 로그인하지 않은 사용자 (권한이 지정되지 않은 메뉴만 보임)
+     */
+    public static final String ANONYMOUS = "ANONYMOUS";
+
+    private static final ObjectWriter TREE_WRITER = new ObjectMapper().writerFor(new TypeReference<List<MenuTreeDto>>() {});
+    private static final Comparator<MenuTreeDto> PRIORITY_ORDER = Comparator
+            .comparing(MenuTreeDto::getPriority, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(MenuTreeDto::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final MenuJpaRepository jpaRepository;
+
+    private volatile Map<String, MenuTree> trees = Map.of();
+
+    /**
+     * 권한의 메뉴 트리 (알 수 없는 권한이면 로그인하지 않은 사용자의 트리)
+     */
+    public MenuTree get(String role) {
+        Map<String, MenuTree> current = trees;
+        MenuTree tree = current.get(role);
+        return tree != null ? tree : current.getOrDefault(ANONYMOUS, MenuTree.EMPTY);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onMenuChanged(MenuChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 전체 메뉴를 읽어 권한별 트리를 다시 만듦 (동시에 호출되어도 나중에 읽은 결과가 남도록 순서대로 실행)
+     */
+    public synchronized void rebuild() {
+        List<MenuDto> menus = jpaRepository.findAll().stream().map(MenuDto::new).toList();
+
+        Map<String, MenuTree> rebuilt = new HashMap<>();
+        rebuilt.put(ANONYMOUS, MenuTree.of(build(menus, null)));
+        for (RoleCode role : RoleCode.values()) {
+            rebuilt.put(role.name(), MenuTree.of(build(menus, role)));
+        }
+        trees = Map.copyOf(rebuilt);
+
+        log.info("MenuTreeCache.rebuild -> {} menus", menus.size());
+    }
+
+    /**
+     * 권한에 보이는 메뉴로 path 기준 트리 생성
+     * @param role null이면 로그인하지 않은 사용자
+     */
+    static List<MenuTreeDto> build(List<MenuDto> menus, RoleCode role) {
+        List<MenuDto> visible = menus.stream()
+                .filter(menu -> isVisible(menu, role))
+                // 상위 path가 먼저 오도록
+                .sorted(Comparator.comparing(menu -> ItemCheck.isEmpty(menu.getPath()) ? 0 : menu.getPath().length()))
+                .toList();
+
+        Map<String, MenuTreeDto> byPath = new HashMap<>();
+        List<MenuTreeDto> roots = new ArrayList<>();
+        for (MenuDto menu : visible) {
+            MenuTreeDto node = new MenuTreeDto(menu);
+            MenuTreeDto parent = findParent(byPath, normalize(menu.getPath()));
+            if (parent == null) roots.add(node);
+            else parent.getChildren().add(node);
+
+            if (ItemCheck.isNotEmpty(menu.getPath())) byPath.putIfAbsent(normalize(menu.getPath()), node);
+        }
+
+        sort(roots);
+        return roots;
+    }
+
+    private static boolean isVisible(MenuDto menu, RoleCode role) {
+        if (ItemCheck.isEmpty(menu.getRole())) return true;
+        if (role == null) return false;
+        if (role == RoleCode.ADMIN) return true;
+
+        for (String allowed : menu.getRole().split(",")) {
+            if (allowed.trim().equals(role.name())) return true;
+        }
+        return false;
+    }
+
+    private static MenuTreeDto findParent(Map<String, MenuTreeDto> byPath, String path) {
+        int slash = path.lastIndexOf('/');
+        while (slash > 0) {
+            path = path.substring(0, slash);
+            MenuTreeDto parent = byPath.get(path);
+            if (parent != null) return parent;
+            slash = path.lastIndexOf('/');
+        }
+        return null;
+    }
+
+    private static String normalize(String path) {
+        if (ItemCheck.isEmpty(path)) return "";
+
+        String trimmed = path.trim();
+        return trimmed.length() > 1 && trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    private static void sort(List<MenuTreeDto> nodes) {
+        nodes.sort(PRIORITY_ORDER);
+        for (MenuTreeDto node : nodes) {
+            sort(node.getChildren());
+        }
+    }
+
+    /**
+     * 미리 직렬화한 메뉴 트리와 ETag
+     * body는 모든 요청이 공유하므로 수정하지 않는다.
+     */
+    @Getter
+    public static final class MenuTree {
+        private static final MenuTree EMPTY = new MenuTree("[]".getBytes(StandardCharsets.UTF_8), "W/\"empty\"");
+
+        private final byte[] body;
+        private final String etag;
+
+        private MenuTree(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        private static MenuTree of(List<MenuTreeDto> tree) {
+            try {
+                byte[] body = TREE_WRITER.writeValueAsBytes(tree);
+                return new MenuTree(body, "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("메뉴 트리 직렬화 실패", e);
+            }
+        }
+    }
+}
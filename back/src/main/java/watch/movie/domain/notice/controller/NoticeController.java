@@ -3,13 +3,22 @@ package watch.movie.domain.notice.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import watch.movie.base.SliceResponse;
 import watch.movie.base.StatusCode;
 import watch.movie.domain.notice.dto.NoticeDto;
+import watch.movie.domain.notice.dto.NoticeSummaryDto;
 import watch.movie.domain.notice.dto.cond.NoticeSearchCond;
+import watch.movie.domain.notice.service.NoticeEventDispatcher;
 import watch.movie.domain.notice.service.NoticeService;
+import watch.movie.utility.ConditionalRequest;
+import watch.movie.utility.ItemCheck;
 
 import java.rmi.NoSuchObjectException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -18,14 +27,47 @@ import java.util.List;
 public class NoticeController {
 
     private final NoticeService noticeService;
+    private final NoticeEventDispatcher noticeEventDispatcher;
 
+    /**
+     * 공지사항 offset 페이징 조회 (page, size)
+     * 응답이 배열이고 page 파라미터를 쓰는 기존 클라이언트 호환을 위해 남겨두며, 뒤 페이지일수록 느려지므로 새 화면은 /notices/cursor를 사용한다.
+     * @deprecated {@link #cursorNotice} 사용
+     */
+    @Deprecated
     @GetMapping("/notices")
-    public List<NoticeDto> allNotice(@ModelAttribute NoticeSearchCond cond, Pageable pageable) {
+    public List<NoticeSummaryDto> allNotice(@ModelAttribute NoticeSearchCond cond, Pageable pageable, WebRequest request) {
         log.info("NoticeController.allNotice -> {}", "전체 공지사항 조회");
 
+        if (ConditionalRequest.notModified(request, noticeService.findLastModified(), cond, pageable)) return null;
+
         return noticeService.findAll(cond, pageable);
     }
 
+    @GetMapping("/notices/cursor")
+    public SliceResponse<NoticeSummaryDto> cursorNotice(@ModelAttribute NoticeSearchCond cond,
+                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                        @RequestParam(value = "size", defaultValue = "20") int size,
+                                                        WebRequest request) {
+        log.info("NoticeController.cursorNotice -> {}", "공지사항 커서 페이징 조회");
+
+        if (ConditionalRequest.notModified(request, noticeService.findLastModified(), cond, cursor, size)) return null;
+
+        return noticeService.findAllByCursor(cond, cursor, size);
+    }
+
+    /**
+     * 공지사항 등록 / 수정 이벤트 구독 (text/event-stream)
+     * event: notice, data: {"type": "CREATED" | "UPDATED", "id": 1, "title": "..."}
+     * 연결이 끊겼다가 다시 연결되면 그 사이의 이벤트는 전달되지 않으므로 목록을 한 번 다시 조회해야 한다.
+     */
+    @GetMapping(value = "/notices/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotice() {
+        log.info("NoticeController.streamNotice -> {}", "공지사항 변경 이벤트 구독");
+
+        return noticeEventDispatcher.subscribe();
+    }
+
     @PostMapping("/notice")
     public StatusCode saveNotice(@RequestBody NoticeDto notice) {
         log.info("NoticeController.saveNotice -> {}", "공지사항 등록");
@@ -35,9 +77,13 @@ public class NoticeController {
     }
 
     @GetMapping("/notice/{id}")
-    public NoticeDto getNotice(@PathVariable("id") Long id) {
+    public NoticeDto getNotice(@PathVariable("id") Long id, WebRequest request) {
         log.info("NoticeController.getNotice -> {}", "공지사항 조회 : " + id);
 
+        LocalDateTime lastModified = noticeService.findLastModified(id);
+        // 변경이 없으면 본문 없이 304 (조회수도 올리지 않음)
+        if (ItemCheck.isNotEmpty(lastModified) && ConditionalRequest.notModified(request, lastModified, id)) return null;
+
         try {
             return noticeService.findById(id);
         } catch (NoSuchObjectException e) {
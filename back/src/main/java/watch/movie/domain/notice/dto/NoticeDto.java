@@ -1,5 +1,6 @@
 package watch.movie.domain.notice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import watch.movie.entity.Notice;
 
@@ -8,11 +9,15 @@ import java.time.LocalDateTime;
 @Data
 public class NoticeDto {
 
+    private Long id;
     private String title;
     private String author;
     private String content;
     private Long view;
     private LocalDateTime registDate;
+    // 조건부 요청(ETag)용 수정일시
+    @JsonIgnore
+    private LocalDateTime updateDate;
 
     private boolean isExist;
 
@@ -20,12 +25,41 @@ public class NoticeDto {
         this.isExist = isExist;
     }
 
+    public NoticeDto(Long id, String title, String author, String content, Long view,
+                     LocalDateTime registDate, LocalDateTime updateDate) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.content = content;
+        this.view = view;
+        this.registDate = registDate;
+        this.updateDate = updateDate;
+        this.isExist = true;
+    }
+
     public NoticeDto(Notice notice) {
+        this.id = notice.getId();
         this.title = notice.getTitle();
         this.author = notice.getCreateBy();
         this.content = notice.getContent();
         this.view = notice.getView();
         this.registDate = notice.getCreateDate();
+        this.updateDate = notice.getUpdateDate();
         this.isExist = true;
     }
+
+    /**
+     * 조회수만 바꾼 복사본 (캐시된 객체는 변경하지 않음)
+     */
+    public NoticeDto withView(Long view) {
+        NoticeDto copy = new NoticeDto(isExist);
+        copy.id = id;
+        copy.title = title;
+        copy.author = author;
+        copy.content = content;
+        copy.view = view;
+        copy.registDate = registDate;
+        copy.updateDate = updateDate;
+        return copy;
+    }
 }
@@ -0,0 +1,30 @@
+package watch.movie.domain.notice.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 목록용 요약 (본문 대신 DB에서 잘라온 앞부분만 포함)
+ */
+@Data
+public class NoticeSummaryDto {
+
+    public static final int EXCERPT_LENGTH = 100;
+
+    private Long id;
+    private String title;
+    private String author;
+    private String excerpt;
+    private Long view;
+    private LocalDateTime registDate;
+
+    public NoticeSummaryDto(Long id, String title, String author, String excerpt, Long view, LocalDateTime registDate) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.excerpt = excerpt;
+        this.view = view;
+        this.registDate = registDate;
+    }
+}
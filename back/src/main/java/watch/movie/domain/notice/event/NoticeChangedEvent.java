@@ -0,0 +1,39 @@
+package watch.movie.domain.notice.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import watch.movie.entity.Notice;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항이 등록 / 수정되었을 때 발행하는 이벤트
+ * 트랜잭션 commit 이후에 처리하도록 {@code @TransactionalEventListener}로 받는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NoticeChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED
+    }
+
+    private final Type type;
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createDate;
+
+    public static NoticeChangedEvent created(Notice notice) {
+        return of(Type.CREATED, notice);
+    }
+
+    public static NoticeChangedEvent updated(Notice notice) {
+        return of(Type.UPDATED, notice);
+    }
+
+    private static NoticeChangedEvent of(Type type, Notice notice) {
+        return new NoticeChangedEvent(type, notice.getId(), notice.getTitle(), notice.getContent(), notice.getCreateBy(), notice.getCreateDate());
+    }
+}
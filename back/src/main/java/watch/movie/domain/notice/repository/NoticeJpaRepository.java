@@ -1,8 +1,19 @@
 package watch.movie.domain.notice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import watch.movie.entity.Notice;
 
 public interface NoticeJpaRepository extends JpaRepository<Notice, Long> {
 
+    /**
+     * 모아둔 조회수를 한 번에 반영
+     */
+    @Transactional
+    @Modifying
+    @Query("update Notice n set n.view = coalesce(n.view, 0) + :delta where n.id = :id")
+    int addView(@Param("id") Long id, @Param("delta") long delta);
 }
@@ -1,14 +1,26 @@
 package watch.movie.domain.notice.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import watch.movie.base.KeysetCursor;
+import watch.movie.core.search.NgramIndex;
 import watch.movie.domain.notice.dto.NoticeDto;
+import watch.movie.domain.notice.dto.NoticeSummaryDto;
 import watch.movie.domain.notice.dto.cond.NoticeSearchCond;
+import watch.movie.utility.ItemCheck;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static watch.movie.entity.QNotice.notice;
 
@@ -18,34 +30,155 @@ public class NoticeQueryRepository {
 
     private final JPAQueryFactory query;
 
-    public List<NoticeDto> findAll(NoticeSearchCond cond, Pageable pageable) {
+    /**
+     * 등록일시 최신순 offset 페이징 조회 (기존 /notices 호환용, 뒤 페이지일수록 앞의 행을 읽고 버림)
+     * @deprecated {@link #findAllByCursor(NoticeSearchCond, KeysetCursor, int)} 사용
+     */
+    @Deprecated
+    public List<NoticeSummaryDto> findAll(NoticeSearchCond cond, Pageable pageable) {
         return query
-                .selectFrom(notice)
+                .select(summary())
+                .from(notice)
                 .where(
                         likeTitle(cond),
                         likeContent(cond),
                         likeAuthor(cond)
                 )
+                .orderBy(notice.createDate.desc(), notice.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    /**
+     * 등록일시 최신순 keyset 페이징 조회
+     * offset 대신 직전 페이지 마지막 (등록일시, id)보다 작은 행만 읽으므로 (create_date, notice_id) 인덱스에서 시작 위치를 바로 찾을 수 있다.
+     * (offset과의 비교는 sql/notice_keyset_bench.sql, 아직 측정 전)
+     * @param cursor 직전 페이지의 마지막 항목 (첫 페이지면 null)
+     * @param size 조회할 개수 (다음 페이지 여부 판단을 위해 호출하는 쪽에서 1을 더해서 전달)
+     */
+    public List<NoticeSummaryDto> findAllByCursor(NoticeSearchCond cond, KeysetCursor cursor, int size) {
+        return query
+                .select(summary())
+                .from(notice)
+                .where(
+                        likeTitle(cond),
+                        likeContent(cond),
+                        likeAuthor(cond),
+                        afterCursor(cursor)
+                )
+                .orderBy(notice.createDate.desc(), notice.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 공지사항 목록의 마지막 수정일시 (등록 / 수정이 있을 때만 바뀜)
+     */
+    public LocalDateTime findLastModified() {
+        return query
+                .select(notice.updateDate.max())
+                .from(notice)
+                .fetchOne();
+    }
+
+    /**
+     * 상세 조회 (본문 포함)
+     * @return 없으면 null
+     */
+    public NoticeDto findDetail(Long id) {
+        return query
+                .select(Projections.constructor(NoticeDto.class,
+                        notice.id,
+                        notice.title,
+                        notice.createBy,
+                        notice.content,
+                        notice.view,
+                        notice.createDate,
+                        notice.updateDate))
+                .from(notice)
+                .where(notice.id.eq(id))
+                .fetchOne();
+    }
+
+    /**
+     * id 목록 중 검색 조건을 만족하는 공지사항 요약을 한 번의 쿼리로 조회 (검색 색인 후보 확인용)
+     * @param ids 조회할 id (결과도 이 순서를 따름)
+     */
+    public List<NoticeSummaryDto> findAllByIds(List<Long> ids, NoticeSearchCond cond) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, NoticeSummaryDto> notices = query
+                .select(summary())
+                .from(notice)
+                .where(
+                        notice.id.in(ids),
+                        likeTitle(cond),
+                        likeContent(cond),
+                        likeAuthor(cond)
+                )
                 .fetch()
                 .stream()
-                .map(NoticeDto::new).toList();
+                .collect(Collectors.toMap(NoticeSummaryDto::getId, Function.identity()));
+
+        return ids.stream()
+                .map(notices::get)
+                .filter(ItemCheck::isNotEmpty)
+                .toList();
+    }
+
+    /**
+     * 검색 색인 생성용으로 id 순서대로 필요한 컬럼만 조회
+     * @param lastId 이전 조회의 마지막 id (처음이면 null)
+     * @param size 조회할 개수
+     */
+    public List<Tuple> findAllForIndex(Long lastId, int size) {
+        return query
+                .select(notice.id, notice.title, notice.content, notice.createBy, notice.createDate)
+                .from(notice)
+                .where(lastId == null ? null : notice.id.gt(lastId))
+                .orderBy(notice.id.asc())
+                .limit(size)
+                .fetch();
     }
 
+    /**
+     * 목록용 컬럼만 조회 (본문은 DB에서 앞부분만 잘라서 가져옴)
+     */
+    private ConstructorExpression<NoticeSummaryDto> summary() {
+        return Projections.constructor(NoticeSummaryDto.class,
+                notice.id,
+                notice.title,
+                notice.createBy,
+                notice.content.substring(0, NoticeSummaryDto.EXCERPT_LENGTH),
+                notice.view,
+                notice.createDate);
+    }
 
     /**
      * 검색 조건 함수
+     * 검색 색인과 결과가 같도록 검색어를 {@link NgramIndex#normalizeQuery(String)}로 정규화하고 대소문자를 구분하지 않는다.
      */
     private BooleanExpression likeTitle(NoticeSearchCond cond) {
-        return notice.title.like("%" + cond.getTitle() + "%");
+        return ItemCheck.isNotEmpty(cond.getTitle()) ? notice.title.containsIgnoreCase(NgramIndex.normalizeQuery(cond.getTitle())) : null;
     }
 
     private BooleanExpression likeContent(NoticeSearchCond cond) {
-        return notice.content.like("%" + cond.getContent() + "%");
+        return ItemCheck.isNotEmpty(cond.getContent()) ? notice.content.containsIgnoreCase(NgramIndex.normalizeQuery(cond.getContent())) : null;
     }
 
     private BooleanExpression likeAuthor(NoticeSearchCond cond) {
-        return notice.createBy.like("%" + cond.getAuthor() + "%");
+        return ItemCheck.isNotEmpty(cond.getAuthor()) ? notice.createBy.containsIgnoreCase(NgramIndex.normalizeQuery(cond.getAuthor())) : null;
+    }
+
+    /**
+     * (등록일시, id) < (cursor 등록일시, cursor id)
+     * OR로 풀어 쓰면 PostgreSQL이 (create_date, notice_id) 인덱스 범위 탐색을 하지 못하므로 row value 비교를 사용
+     */
+    private BooleanExpression afterCursor(KeysetCursor cursor) {
+        if (ItemCheck.isEmpty(cursor)) return null;
+
+        return Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+                notice.createDate, notice.id, cursor.getDate(), cursor.getId());
     }
 }
\ No newline at end of file
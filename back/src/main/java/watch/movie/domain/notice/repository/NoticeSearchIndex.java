@@ -0,0 +1,215 @@
+package watch.movie.domain.notice.repository;
+
+import com.querydsl.core.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import watch.movie.base.KeysetCursor;
+import watch.movie.core.search.NgramIndex;
+import watch.movie.domain.notice.dto.NoticeSummaryDto;
+import watch.movie.domain.notice.dto.cond.NoticeSearchCond;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+import watch.movie.utility.ItemCheck;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static watch.movie.entity.QNotice.notice;
+
+/**
+ * 공지사항 제목 / 내용 / 작성자 검색용 메모리 역색인
+ * <ul>
+ *     <li>애플리케이션 시작시 DB에서 전체를 읽어 색인</li>
+ *     <li>등록 / 수정이 commit되면 해당 공지사항만 다시 색인</li>
+ *     <li>색인이 준비되기 전이나 1글자 검색어는 {@link #supports(NoticeSearchCond)}가 false를 반환하므로 DB에서 검색</li>
+ *     <li>색인에는 원문이 없으므로 4글자 이상 검색어는 후보를 DB에서 같은 조건으로 확인하면서 요약을 조회</li>
+ * </ul>
+ * 점수가 같으면 DB 조회와 같이 등록일시, id 최신순이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int AUTHOR_WEIGHT = 1;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final int VERIFY_CHUNK_SIZE = 500;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final NoticeQueryRepository queryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private NgramIndex index = newIndex();
+    private boolean ready;
+    // 재색인 중에 들어온 변경사항 (재색인이 끝나면 다시 반영)
+    private List<NoticeChangedEvent> pending;
+
+    /**
+     * 색인으로 처리할 수 있는 검색 조건인지 여부
+     * 조건이 하나 이상 있고, 입력된 조건이 모두 2글자 이상이어야 한다.
+     */
+    public boolean supports(NoticeSearchCond cond) {
+        lock.readLock().lock();
+        try {
+            if (!ready) return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        boolean hasCondition = false;
+        for (String query : queries(cond)) {
+            if (ItemCheck.isEmpty(query)) continue;
+            if (!NgramIndex.isSearchable(query)) return false;
+            hasCondition = true;
+        }
+        return hasCondition;
+    }
+
+    /**
+     * 점수 순으로 정렬된 공지사항 검색
+     */
+    public List<NoticeSummaryDto> search(NoticeSearchCond cond, long offset, int limit) {
+        String[] queries = queries(cond);
+        boolean verify = needsVerification(queries);
+
+        List<Long> candidates;
+        lock.readLock().lock();
+        try {
+            // 확인이 필요하면 걸러질 후보가 있으므로 offset 이전부터 전부 가져옴
+            candidates = verify ? index.search(queries, 0, Integer.MAX_VALUE) : index.search(queries, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return load(candidates, cond, verify ? offset : 0, limit);
+    }
+
+    /**
+     * 등록일시 최신순 keyset 페이징 검색
+     * @param cursor 직전 페이지의 마지막 항목 (첫 페이지면 null)
+     */
+    public List<NoticeSummaryDto> searchByCursor(NoticeSearchCond cond, KeysetCursor cursor, int size) {
+        String[] queries = queries(cond);
+        boolean verify = needsVerification(queries);
+        long order = cursor == null ? Long.MAX_VALUE : orderOf(cursor.getDate());
+        long id = cursor == null ? Long.MAX_VALUE : cursor.getId();
+
+        List<Long> candidates;
+        lock.readLock().lock();
+        try {
+            candidates = index.searchBefore(queries, order, id, verify ? Integer.MAX_VALUE : size);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return load(candidates, cond, 0, size);
+    }
+
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) pending.add(event);
+            apply(index, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        NgramIndex rebuilt = newIndex();
+        try {
+            long start = System.currentTimeMillis();
+            Long lastId = null;
+            List<Tuple> rows;
+            do {
+                rows = queryRepository.findAllForIndex(lastId, REBUILD_CHUNK_SIZE);
+                for (Tuple row : rows) {
+                    lastId = row.get(notice.id);
+                    rebuilt.put(lastId, orderOf(row.get(notice.createDate)),
+                            row.get(notice.title), row.get(notice.content), row.get(notice.createBy));
+                }
+            } while (rows.size() == REBUILD_CHUNK_SIZE);
+
+            log.info("NoticeSearchIndex.rebuild -> {} documents, {}ms", rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("NoticeSearchIndex.rebuild failed, notice search uses database", e);
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (NoticeChangedEvent event : pending) {
+                apply(rebuilt, event);
+            }
+            index = rebuilt;
+            pending = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 후보 순서대로 DB에서 검색 조건을 다시 확인하며 요약을 조회 (잠금 밖에서 실행)
+     * @param skip 확인을 통과한 결과 중 건너뛸 수
+     */
+    private List<NoticeSummaryDto> load(List<Long> candidates, NoticeSearchCond cond, long skip, int limit) {
+        List<NoticeSummaryDto> result = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int from = 0; from < candidates.size() && result.size() < limit; from += VERIFY_CHUNK_SIZE) {
+            List<Long> chunk = candidates.subList(from, Math.min(candidates.size(), from + VERIFY_CHUNK_SIZE));
+            for (NoticeSummaryDto row : queryRepository.findAllByIds(chunk, cond)) {
+                if (skip > 0) skip--;
+                else if (result.size() < limit) result.add(row);
+            }
+        }
+        return result;
+    }
+
+    private static boolean needsVerification(String[] queries) {
+        return Arrays.stream(queries).anyMatch(NgramIndex::needsVerification);
+    }
+
+    private static void apply(NgramIndex target, NoticeChangedEvent event) {
+        target.put(event.getId(), orderOf(event.getCreateDate()), event.getTitle(), event.getContent(), event.getAuthor());
+    }
+
+    /**
+     * 등록일시를 색인 정렬 값으로 변환 (DB 정밀도인 마이크로초 단위)
+     */
+    private static long orderOf(LocalDateTime createDate) {
+        return createDate == null ? 0 : ChronoUnit.MICROS.between(EPOCH, createDate);
+    }
+
+    private static String[] queries(NoticeSearchCond cond) {
+        return new String[]{cond.getTitle(), cond.getContent(), cond.getAuthor()};
+    }
+
+    private static NgramIndex newIndex() {
+        return new NgramIndex(TITLE_WEIGHT, CONTENT_WEIGHT, AUTHOR_WEIGHT);
+    }
+}
@@ -0,0 +1,46 @@
+package watch.movie.domain.notice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import watch.movie.core.cache.BoundedLoadingCache;
+import watch.movie.domain.notice.dto.NoticeDto;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 공지사항 상세 조회 결과 캐시
+ * 등록 / 수정이 commit되면 해당 공지사항을 무효화한다.
+ * 조회수는 {@link NoticeViewCounter}가 DB에 반영할 때마다 캐시된 값에 더하고, 아직 반영되지 않은 조회수는 조회할 때 더한다.
+ */
+@Component
+public class NoticeDetailCache {
+
+    private final BoundedLoadingCache<Long, NoticeDto> cache;
+
+    public NoticeDetailCache(@Value("${custom.notice-cache.maximum-size:1000}") int maximumSize,
+                             @Value("${custom.notice-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new BoundedLoadingCache<>(maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * @param loader 캐시에 없을 때 DB에서 조회 (없는 공지사항이면 null)
+     */
+    public NoticeDto get(Long id, Function<Long, NoticeDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * DB에 반영한 조회수를 캐시된 공지사항에도 더함 (캐시에 없으면 아무것도 하지 않음)
+     */
+    public void addView(Long id, long delta) {
+        cache.computeIfPresent(id, notice -> notice.withView((notice.getView() == null ? 0 : notice.getView()) + delta));
+    }
+
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        cache.invalidate(event.getId());
+    }
+}
@@ -0,0 +1,172 @@
+package watch.movie.domain.notice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import watch.movie.core.list.MpmcCircularQueue;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공지사항 변경 이벤트를 SSE 구독자들에게 전달하는 공용 dispatcher
+ * <ul>
+ *     <li>이벤트는 한 번만 직렬화해서 모든 구독자가 같은 객체를 공유</li>
+ *     <li>구독자마다 크기가 정해진 lock-free 버퍼를 두고, 전송은 소수의 writer 스레드가 버퍼에 쌓인 구독자만 처리</li>
+ *     <li>버퍼가 가득 찬(느린) 구독자는 연결을 끊음 (클라이언트는 재연결 후 목록을 다시 조회)</li>
+ * </ul>
+ * 대기 중인 구독자는 스레드를 점유하지 않으므로 emitter와 작은 버퍼 외에는 비용이 없다.
+ */
+@Slf4j
+@Component
+public class NoticeEventDispatcher {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ThreadPoolExecutor writers;
+    private final long timeoutMillis;
+    private final int bufferSize;
+
+    public NoticeEventDispatcher(@Value("${custom.notice-stream.timeout-minutes:30}") long timeoutMinutes,
+                                 @Value("${custom.notice-stream.buffer-size:16}") int bufferSize,
+                                 @Value("${custom.notice-stream.writer-threads:2}") int writerThreads) {
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.bufferSize = Math.max(2, bufferSize);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(
+                writerThreads, writerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                // 구독자마다 전송 작업은 최대 하나만 대기하므로 구독자 수 이상 쌓이지 않음
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notice-sse-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 새 구독자 등록
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, new MpmcCircularQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 등록 / 수정이 commit된 뒤 변경 이벤트 전달 (본문은 보내지 않음)
+     */
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (subscribers.isEmpty()) return;
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", event.getType());
+        data.put("id", event.getId());
+        data.put("title", event.getTitle());
+
+        try {
+            broadcast(SseEmitter.event()
+                    .name("notice")
+                    .id(String.valueOf(event.getId()))
+                    .data(objectMapper.writeValueAsString(data), MediaType.APPLICATION_JSON)
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.warn("NoticeEventDispatcher.onNoticeChanged -> 이벤트 직렬화 실패 : {}", event.getId(), e);
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시에서 끊기지 않도록 주기적으로 주석을 전송 (이미 끊긴 구독자는 이때 정리됨)
+     */
+    @Scheduled(fixedDelayString = "${custom.notice-stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        broadcast(HEARTBEAT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        writers.shutdownNow();
+    }
+
+    private void broadcast(Set<DataWithMediaType> message) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(message)) {
+                log.debug("NoticeEventDispatcher.broadcast -> 버퍼 초과로 구독 종료");
+                drop(subscriber);
+                continue;
+            }
+            if (subscriber.scheduled.compareAndSet(false, true)) {
+                writers.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> message;
+            while ((message = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(message);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 종료된 emitter
+            drop(subscriber);
+            return;
+        }
+
+        subscriber.scheduled.set(false);
+        // 상태를 되돌리는 사이에 들어온 메시지가 있으면 다시 예약
+        if (!subscriber.buffer.isEmpty() && subscriber.scheduled.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Queue<Set<DataWithMediaType>> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
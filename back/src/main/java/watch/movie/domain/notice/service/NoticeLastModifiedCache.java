@@ -0,0 +1,48 @@
+package watch.movie.domain.notice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+import watch.movie.domain.notice.repository.NoticeQueryRepository;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공지사항 목록의 마지막 수정일시 캐시
+ * 목록을 조회할 때마다 max(update_date)를 조회하지 않도록 보관하고, 등록 / 수정이 commit되면 다시 읽도록 한다.
+ * (조회수 반영은 update_date를 바꾸지 않으므로 무효화하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class NoticeLastModifiedCache {
+
+    private final NoticeQueryRepository queryRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Cached cached;
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 그 사이 변경이 있었으면 DB에서 조회
+     * @return 공지사항이 없으면 null
+     */
+    public LocalDateTime get() {
+        long current = generation.get();
+        Cached value = cached;
+        if (value != null && value.generation == current) return value.lastModified;
+
+        // 조회 중에 변경이 commit되면 generation이 달라지므로 다음 호출에서 다시 읽음
+        LocalDateTime lastModified = queryRepository.findLastModified();
+        cached = new Cached(current, lastModified);
+        return lastModified;
+    }
+
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private record Cached(long generation, LocalDateTime lastModified) {
+    }
+}
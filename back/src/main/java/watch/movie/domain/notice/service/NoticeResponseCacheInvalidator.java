@@ -0,0 +1,23 @@
+package watch.movie.domain.notice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import watch.movie.core.cache.ResponseCacheFilter;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+
+/**
+ * 공지사항 등록 / 수정이 commit되면 캐시된 목록 응답을 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class NoticeResponseCacheInvalidator {
+
+    private final ResponseCacheFilter responseCacheFilter;
+
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        responseCacheFilter.invalidate("/notices");
+        responseCacheFilter.invalidate("/notices/cursor");
+    }
+}
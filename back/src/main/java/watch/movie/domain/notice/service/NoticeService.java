@@ -1,17 +1,25 @@
 package watch.movie.domain.notice.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import watch.movie.base.KeysetCursor;
+import watch.movie.base.SliceResponse;
 import watch.movie.domain.notice.dto.NoticeDto;
+import watch.movie.domain.notice.dto.NoticeSummaryDto;
 import watch.movie.domain.notice.dto.cond.NoticeSearchCond;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
 import watch.movie.domain.notice.repository.NoticeJpaRepository;
 import watch.movie.domain.notice.repository.NoticeQueryRepository;
+import watch.movie.domain.notice.repository.NoticeSearchIndex;
 import watch.movie.entity.Notice;
 import watch.movie.utility.ItemCheck;
 
 import java.rmi.NoSuchObjectException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -19,38 +27,102 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NoticeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NoticeJpaRepository jpaRepository;
     private final NoticeQueryRepository queryRepository;
+    private final NoticeSearchIndex searchIndex;
+    private final NoticeDetailCache detailCache;
+    private final NoticeViewCounter viewCounter;
+    private final NoticeLastModifiedCache lastModifiedCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 검색 조건이 있으면 메모리 색인에서 점수 순으로 찾고, 그 외에는 DB에서 조회
+     * @deprecated {@link #findAllByCursor(NoticeSearchCond, String, int)} 사용 (기존 /notices 호환용)
+     */
+    @Deprecated
+    public List<NoticeSummaryDto> findAll(NoticeSearchCond cond, Pageable pageable) {
+        if (searchIndex.supports(cond)) {
+            return searchIndex.search(cond, pageable.getOffset(), pageable.getPageSize());
+        }
 
-    public List<NoticeDto> findAll(NoticeSearchCond cond, Pageable pageable) {
         return queryRepository.findAll(cond, pageable);
     }
 
-    @Transactional
+    /**
+     * 등록일시 최신순 keyset 페이징 조회 (COUNT 없이 size + 1건으로 다음 페이지 여부 판단)
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public SliceResponse<NoticeSummaryDto> findAllByCursor(NoticeSearchCond cond, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        // 검색 조건이 있으면 색인에서 후보를 찾되 순서는 DB 조회와 같은 등록일시 최신순
+        List<NoticeSummaryDto> rows = searchIndex.supports(cond)
+                ? searchIndex.searchByCursor(cond, keysetCursor, pageSize + 1)
+                : queryRepository.findAllByCursor(cond, keysetCursor, pageSize + 1);
+
+        return SliceResponse.of(rows, pageSize, last -> KeysetCursor.encode(last.getRegistDate(), last.getId()));
+    }
+
+    /**
+     * 공지사항 목록의 마지막 수정일시 (조건부 요청용, 등록 / 수정 전까지는 DB를 조회하지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LocalDateTime findLastModified() {
+        return lastModifiedCache.get();
+    }
+
+    /**
+     * 공지사항의 마지막 수정일시 (조건부 요청용, 조회수는 올리지 않음)
+     * @return 없는 공지사항이면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LocalDateTime findLastModified(Long id) {
+        NoticeDto findNotice = detailCache.get(id, this::loadNotice);
+        return ItemCheck.isEmpty(findNotice) ? null : findNotice.getUpdateDate();
+    }
+
+    /**
+     * 캐시에 있으면 DB를 조회하지 않으므로 트랜잭션 없이 실행하고, 조회수는 모아두었다가 주기적으로 반영
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public NoticeDto findById(Long id) throws NoSuchObjectException {
-        Notice findNotice = jpaRepository.findById(id).orElse(null);
-        if (ItemCheck.isNotEmpty(findNotice)) {
-            findNotice.viewCountUp();
-        } else {
+        NoticeDto findNotice = detailCache.get(id, this::loadNotice);
+        if (ItemCheck.isEmpty(findNotice)) {
             throw new NoSuchObjectException("게시글이 존재하지 않습니다.");
         }
 
-        return new NoticeDto(findNotice);
+        viewCounter.increment(id);
+        // 반영 전 조회수를 먼저 읽고 캐시를 다시 읽어야 그 사이 반영된 조회수가 빠지지 않음
+        long pending = viewCounter.pending(id);
+        NoticeDto current = detailCache.get(id, this::loadNotice);
+        if (ItemCheck.isNotEmpty(current)) findNotice = current;
+        long view = ItemCheck.isEmpty(findNotice.getView()) ? 0 : findNotice.getView();
+        return findNotice.withView(view + pending);
     }
 
+    @Transactional
     public void updateNotice(Long id, NoticeDto notice) throws NoSuchObjectException{
         Notice findNotice = jpaRepository.findById(id).orElse(null);
 
         if (ItemCheck.isNotEmpty(findNotice)) {
             findNotice.changeTitle(notice);
             findNotice.changeContent(notice);
+            eventPublisher.publishEvent(NoticeChangedEvent.updated(findNotice));
         } else {
             throw new NoSuchObjectException("게시글이 존재하지 않습니다.");
         }
     }
 
+    @Transactional
     public void save(NoticeDto notice) {
         Notice saveNotice = Notice.of(notice.getTitle(), notice.getContent());
         jpaRepository.save(saveNotice);
+        eventPublisher.publishEvent(NoticeChangedEvent.created(saveNotice));
+    }
+
+    private NoticeDto loadNotice(Long id) {
+        return queryRepository.findDetail(id);
     }
 }
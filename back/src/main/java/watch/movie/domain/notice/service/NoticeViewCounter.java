@@ -0,0 +1,59 @@
+package watch.movie.domain.notice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import watch.movie.domain.notice.repository.NoticeJpaRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공지사항 조회수를 메모리에 모아두었다가 주기적으로 DB에 반영
+ * 조회할 때마다 UPDATE 하지 않으므로 캐시된 공지사항도 조회수를 잃지 않는다.
+ * 반영 순서는 DB 반영 -> 상세 캐시의 조회수 증가 -> 반영한 만큼 차감이므로, 화면의 조회수가 잠시 크게 보일 수는 있어도 작게 보이거나 누락되지는 않는다.
+ * 반영할 때 상세 캐시를 비우지 않으므로 많이 읽히는 공지사항도 캐시에 남아 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeViewCounter {
+
+    private final NoticeJpaRepository jpaRepository;
+    private final NoticeDetailCache detailCache;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long id) {
+        pending.merge(id, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(Long id) {
+        return pending.getOrDefault(id, 0L);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${custom.notice-cache.view-flush-ms:5000}")
+    public void flush() {
+        for (Long id : pending.keySet()) {
+            Long delta = pending.get(id);
+            if (delta == null || delta == 0) continue;
+
+            try {
+                jpaRepository.addView(id, delta);
+            } catch (RuntimeException e) {
+                // 반영하지 못한 조회수는 다음 주기에 다시 시도
+                log.warn("NoticeViewCounter.flush -> 조회수 반영 실패 : {}", id, e);
+                continue;
+            }
+
+            detailCache.addView(id, delta);
+            pending.computeIfPresent(id, (key, value) -> value == delta.longValue() ? null : value - delta);
+        }
+    }
+}
@@ -1,13 +1,70 @@
 package watch.movie.domain.requireBoard.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.RestController;
-import watch.movie.domain.notice.service.NoticeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import watch.movie.base.SliceResponse;
+import watch.movie.base.StatusCode;
+import watch.movie.domain.requireBoard.dto.RequireBoardDto;
+import watch.movie.domain.requireBoard.dto.RequireBoardSummaryDto;
+import watch.movie.domain.requireBoard.dto.cond.RequireBoardSearchCond;
+import watch.movie.domain.requireBoard.service.RequireBoardService;
 
+import java.rmi.NoSuchObjectException;
+import java.util.List;
+
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class RequireBoardController {
 
-    private final NoticeService noticeService;
+    private final RequireBoardService requireBoardService;
+
+    @GetMapping("/requireBoards")
+    public SliceResponse<RequireBoardSummaryDto> allRequireBoard(@ModelAttribute RequireBoardSearchCond cond,
+                                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                                 @RequestParam(value = "size", defaultValue = "20") int size) {
+        log.info("RequireBoardController.allRequireBoard -> {}", "요청 게시판 조회");
+
+        return requireBoardService.findAllByCursor(cond, cursor, size);
+    }
+
+    @GetMapping("/requireBoards/top")
+    public List<RequireBoardSummaryDto> topRequireBoard(@RequestParam(value = "size", defaultValue = "10") int size) {
+        log.info("RequireBoardController.topRequireBoard -> {}", "투표 수 상위 요청 게시글 조회");
+
+        return requireBoardService.findTop(size);
+    }
+
+    @GetMapping("/requireBoard/{id}")
+    public RequireBoardDto getRequireBoard(@PathVariable("id") Long id) {
+        log.info("RequireBoardController.getRequireBoard -> {}", "요청 게시글 조회 : " + id);
+
+        try {
+            return requireBoardService.findById(id);
+        } catch (NoSuchObjectException e) {
+            return new RequireBoardDto(false);
+        }
+    }
+
+    @PostMapping("/requireBoard/{id}/vote")
+    public StatusCode voteRequireBoard(@PathVariable("id") Long id) {
+        log.info("RequireBoardController.voteRequireBoard -> {}", "요청 게시글 투표 : " + id);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return StatusCode.LOGIN_REQUIRED;
+        }
 
+        try {
+            requireBoardService.vote(id, authentication.getName());
+        } catch (NoSuchObjectException e) {
+            return StatusCode.BOARD_NOT_FOUND;
+        }
+        return StatusCode.SUCCESS;
+    }
 }
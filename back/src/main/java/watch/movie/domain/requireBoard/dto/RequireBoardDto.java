@@ -0,0 +1,39 @@
+package watch.movie.domain.requireBoard.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RequireBoardDto {
+
+    private Long id;
+    private String title;
+    private String content;
+    private String memberId;
+    private String memberName;
+    private Long view;
+    private Long voteCount;
+    private Character uploadYn;
+    private LocalDateTime registDate;
+
+    private boolean isExist;
+
+    public RequireBoardDto(boolean isExist) {
+        this.isExist = isExist;
+    }
+
+    public RequireBoardDto(Long id, String title, String content, String memberId, String memberName,
+                           Long view, Long voteCount, Character uploadYn, LocalDateTime registDate) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.view = view;
+        this.voteCount = voteCount;
+        this.uploadYn = uploadYn;
+        this.registDate = registDate;
+        this.isExist = true;
+    }
+}
@@ -0,0 +1,33 @@
+package watch.movie.domain.requireBoard.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 게시판 목록용 요약 (작성자 이름은 member와 join해서 같은 쿼리로 조회)
+ */
+@Data
+public class RequireBoardSummaryDto {
+
+    private Long id;
+    private String title;
+    private String memberId;
+    private String memberName;
+    private Long view;
+    private Long voteCount;
+    private Character uploadYn;
+    private LocalDateTime registDate;
+
+    public RequireBoardSummaryDto(Long id, String title, String memberId, String memberName,
+                                  Long view, Long voteCount, Character uploadYn, LocalDateTime registDate) {
+        this.id = id;
+        this.title = title;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.view = view;
+        this.voteCount = voteCount;
+        this.uploadYn = uploadYn;
+        this.registDate = registDate;
+    }
+}
@@ -0,0 +1,13 @@
+package watch.movie.domain.requireBoard.dto.cond;
+
+import lombok.Data;
+
+/**
+ * 요청 게시판 검색 조건 (비어있는 조건은 적용하지 않음)
+ */
+@Data
+public class RequireBoardSearchCond {
+    private String title;
+    private String author;
+    private Character uploadYn;
+}
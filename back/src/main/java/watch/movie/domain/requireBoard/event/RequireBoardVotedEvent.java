@@ -0,0 +1,14 @@
+package watch.movie.domain.requireBoard.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 게시글에 새 투표가 기록되었을 때 발행하는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class RequireBoardVotedEvent {
+
+    private final Long boardId;
+}
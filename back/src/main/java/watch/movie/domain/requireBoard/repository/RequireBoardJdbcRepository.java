@@ -0,0 +1,72 @@
+package watch.movie.domain.requireBoard.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPA로 표현하기 어려운 요청 게시판 쿼리 (PostgreSQL)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequireBoardJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 투표 기록 저장, 이미 투표했거나 없는(삭제된) 게시글이면 아무것도 하지 않음
+     * 회원마다 다른 행에 insert하므로 같은 게시글에 동시에 투표해도 게시글 행을 잠그지 않는다.
+     * @return 새로 투표했으면 true
+     */
+    public boolean insertVote(Long boardId, String memberId) {
+        int inserted = jdbcTemplate.update("""
+                insert into require_board_vote (require_board_vote_id, require_board_id, member_id, create_date)
+                select nextval('require_board_vote_sequence'), require_board_id, ?, now() from required_board
+                where require_board_id = ? and (delete_yn is null or delete_yn <> 'Y')
+                on conflict (require_board_id, member_id) do nothing
+                """, memberId, boardId);
+        return inserted > 0;
+    }
+
+    /**
+     * 삭제되지 않은 게시글인지
+     */
+    public boolean existsBoard(Long boardId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                select exists (select 1 from required_board
+                where require_board_id = ? and (delete_yn is null or delete_yn <> 'Y'))
+                """, Boolean.class, boardId));
+    }
+
+    /**
+     * 게시글별 증가분을 batch로 한 번에 반영
+     * @param deltas 게시글 id -> 증가분
+     */
+    public void addVoteCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) -> args.add(new Object[]{delta, boardId}));
+
+        jdbcTemplate.batchUpdate(
+                "update required_board set vote_count = coalesce(vote_count, 0) + ? where require_board_id = ?",
+                args);
+    }
+
+    /**
+     * 투표가 있는 게시글의 투표 수 (삭제된 게시글 제외)
+     */
+    public Map<Long, Long> findVoteCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query("""
+                select require_board_id, vote_count from required_board
+                where vote_count > 0 and (delete_yn is null or delete_yn <> 'Y')
+                """, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        });
+        return counts;
+    }
+}
@@ -1,8 +1,17 @@
 package watch.movie.domain.requireBoard.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import watch.movie.entity.RequireBoard;
 
 public interface RequireBoardJpaRepository extends JpaRepository<RequireBoard, Long> {
 
+    /**
+     * 엔티티를 읽지 않고 조회수만 증가
+     */
+    @Modifying
+    @Query("update RequireBoard r set r.view = coalesce(r.view, 0) + 1 where r.id = :id")
+    int viewCountUp(@Param("id") Long id);
 }
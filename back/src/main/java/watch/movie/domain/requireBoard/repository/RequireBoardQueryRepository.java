@@ -1,12 +1,142 @@
 package watch.movie.domain.requireBoard.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import watch.movie.base.KeysetCursor;
+import watch.movie.domain.requireBoard.dto.RequireBoardDto;
+import watch.movie.domain.requireBoard.dto.RequireBoardSummaryDto;
+import watch.movie.domain.requireBoard.dto.cond.RequireBoardSearchCond;
+import watch.movie.utility.ItemCheck;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static watch.movie.entity.QMember.member;
+import static watch.movie.entity.QRequireBoard.requireBoard;
 
 @Repository
 @RequiredArgsConstructor
 public class RequireBoardQueryRepository {
 
+    private static final char DELETED = 'Y';
+
     private final JPAQueryFactory query;
+
+    /**
+     * 등록일시 최신순 keyset 페이징 조회
+     * 작성자 이름까지 DTO로 바로 조회하므로 member를 행마다 지연 로딩하지 않고 쿼리 한 번으로 끝난다.
+     * @param cursor 직전 페이지의 마지막 항목 (첫 페이지면 null)
+     * @param size 조회할 개수 (다음 페이지 여부 판단을 위해 호출하는 쪽에서 1을 더해서 전달)
+     */
+    public List<RequireBoardSummaryDto> findAllByCursor(RequireBoardSearchCond cond, KeysetCursor cursor, int size) {
+        return query
+                .select(summary())
+                .from(requireBoard)
+                .leftJoin(requireBoard.member, member)
+                .where(
+                        notDeleted(),
+                        eqUploadYn(cond),
+                        likeTitle(cond),
+                        likeAuthor(cond),
+                        afterCursor(cursor)
+                )
+                .orderBy(requireBoard.createDate.desc(), requireBoard.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * id 목록에 해당하는 게시글 요약을 한 번의 쿼리로 조회 (삭제된 게시글은 제외)
+     * @param ids 조회할 id (결과도 이 순서를 따름)
+     */
+    public List<RequireBoardSummaryDto> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, RequireBoardSummaryDto> boards = query
+                .select(summary())
+                .from(requireBoard)
+                .leftJoin(requireBoard.member, member)
+                .where(requireBoard.id.in(ids), notDeleted())
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(RequireBoardSummaryDto::getId, Function.identity()));
+
+        return ids.stream()
+                .map(boards::get)
+                .filter(ItemCheck::isNotEmpty)
+                .toList();
+    }
+
+    /**
+     * 상세 조회 (삭제된 게시글은 제외)
+     * @return 없으면 null
+     */
+    public RequireBoardDto findDetail(Long id) {
+        return query
+                .select(Projections.constructor(RequireBoardDto.class,
+                        requireBoard.id,
+                        requireBoard.title,
+                        requireBoard.content,
+                        member.id,
+                        member.name,
+                        requireBoard.view,
+                        requireBoard.voteCount,
+                        requireBoard.uploadYn,
+                        requireBoard.createDate))
+                .from(requireBoard)
+                .leftJoin(requireBoard.member, member)
+                .where(requireBoard.id.eq(id), notDeleted())
+                .fetchOne();
+    }
+
+    /**
+     * 목록용 컬럼과 작성자 이름
+     */
+    private ConstructorExpression<RequireBoardSummaryDto> summary() {
+        return Projections.constructor(RequireBoardSummaryDto.class,
+                requireBoard.id,
+                requireBoard.title,
+                member.id,
+                member.name,
+                requireBoard.view,
+                requireBoard.voteCount,
+                requireBoard.uploadYn,
+                requireBoard.createDate);
+    }
+
+    /**
+     * 검색 조건 함수
+     */
+    private BooleanExpression notDeleted() {
+        return requireBoard.deleteYn.isNull().or(requireBoard.deleteYn.ne(DELETED));
+    }
+
+    private BooleanExpression eqUploadYn(RequireBoardSearchCond cond) {
+        return ItemCheck.isNotEmpty(cond.getUploadYn()) ? requireBoard.uploadYn.eq(cond.getUploadYn()) : null;
+    }
+
+    private BooleanExpression likeTitle(RequireBoardSearchCond cond) {
+        return ItemCheck.isNotEmpty(cond.getTitle()) ? requireBoard.title.like("%" + cond.getTitle() + "%") : null;
+    }
+
+    private BooleanExpression likeAuthor(RequireBoardSearchCond cond) {
+        return ItemCheck.isNotEmpty(cond.getAuthor()) ? member.name.like("%" + cond.getAuthor() + "%") : null;
+    }
+
+    /**
+     * (등록일시, id) < (cursor 등록일시, cursor id)
+     */
+    private BooleanExpression afterCursor(KeysetCursor cursor) {
+        if (ItemCheck.isEmpty(cursor)) return null;
+
+        return Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+                requireBoard.createDate, requireBoard.id, cursor.getDate(), cursor.getId());
+    }
 }
@@ -1,17 +1,91 @@
 package watch.movie.domain.requireBoard.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import watch.movie.domain.notice.repository.NoticeJpaRepository;
-import watch.movie.domain.notice.repository.NoticeQueryRepository;
+import watch.movie.base.KeysetCursor;
+import watch.movie.base.SliceResponse;
+import watch.movie.domain.requireBoard.dto.RequireBoardDto;
+import watch.movie.domain.requireBoard.dto.RequireBoardSummaryDto;
+import watch.movie.domain.requireBoard.dto.cond.RequireBoardSearchCond;
+import watch.movie.domain.requireBoard.event.RequireBoardVotedEvent;
+import watch.movie.domain.requireBoard.repository.RequireBoardJdbcRepository;
+import watch.movie.domain.requireBoard.repository.RequireBoardJpaRepository;
+import watch.movie.domain.requireBoard.repository.RequireBoardQueryRepository;
+import watch.movie.utility.ItemCheck;
+
+import java.rmi.NoSuchObjectException;
+import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class RequireBoardService {
 
-    private final NoticeJpaRepository jpaRepository;
-    private final NoticeQueryRepository queryRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final RequireBoardJpaRepository jpaRepository;
+    private final RequireBoardQueryRepository queryRepository;
+    private final RequireBoardJdbcRepository jdbcRepository;
+    private final RequireBoardVoteCounter voteCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 등록일시 최신순 keyset 페이징 조회 (COUNT 없이 size + 1건으로 다음 페이지 여부 판단)
+     * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public SliceResponse<RequireBoardSummaryDto> findAllByCursor(RequireBoardSearchCond cond, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<RequireBoardSummaryDto> rows = queryRepository.findAllByCursor(cond, KeysetCursor.decode(cursor), pageSize + 1);
+        rows.forEach(board -> board.setVoteCount(voteCount(board.getId(), board.getVoteCount())));
+
+        return SliceResponse.of(rows, pageSize, last -> KeysetCursor.encode(last.getRegistDate(), last.getId()));
+    }
+
+    @Transactional
+    public RequireBoardDto findById(Long id) throws NoSuchObjectException {
+        RequireBoardDto findBoard = queryRepository.findDetail(id);
+        if (ItemCheck.isEmpty(findBoard)) {
+            throw new NoSuchObjectException("게시글이 존재하지 않습니다.");
+        }
+
+        jpaRepository.viewCountUp(id);
+        findBoard.setView(ItemCheck.isEmpty(findBoard.getView()) ? 1 : findBoard.getView() + 1);
+        findBoard.setVoteCount(voteCount(id, findBoard.getVoteCount()));
+        return findBoard;
+    }
+
+    /**
+     * 투표 수 상위 게시글 (메모리에서 집계한 순위)
+     */
+    public List<RequireBoardSummaryDto> findTop(int size) {
+        int topSize = Math.max(1, Math.min(size, RequireBoardVoteCounter.MAX_TOP));
+        List<RequireBoardSummaryDto> boards = queryRepository.findAllByIds(voteCounter.topIds(topSize));
+        boards.forEach(board -> board.setVoteCount(voteCount(board.getId(), board.getVoteCount())));
+
+        return boards;
+    }
+
+    /**
+     * 게시글에 투표 (회원당 한 번, 이미 투표했으면 무시)
+     * 투표 수는 commit 이후 메모리에서 집계해서 주기적으로 반영한다.
+     * @return 새로 투표했으면 true
+     * @throws NoSuchObjectException 없거나 삭제된 게시글
+     */
+    @Transactional
+    public boolean vote(Long id, String memberId) throws NoSuchObjectException {
+        boolean voted = jdbcRepository.insertVote(id, memberId);
+        if (voted) {
+            eventPublisher.publishEvent(new RequireBoardVotedEvent(id));
+        } else if (!jdbcRepository.existsBoard(id)) {
+            throw new NoSuchObjectException("게시글이 존재하지 않습니다.");
+        }
+
+        return voted;
+    }
 
+    private long voteCount(Long id, Long stored) {
+        return (ItemCheck.isEmpty(stored) ? 0 : stored) + voteCounter.pending(id);
+    }
 }
@@ -0,0 +1,130 @@
+package watch.movie.domain.requireBoard.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import watch.movie.domain.requireBoard.event.RequireBoardVotedEvent;
+import watch.movie.domain.requireBoard.repository.RequireBoardJdbcRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 게시글 투표 수를 메모리에서 집계하고 주기적으로 DB에 반영
+ * <ul>
+ *     <li>투표 수는 게시글별 {@link LongAdder}로 세므로 같은 게시글에 동시에 투표해도 경합하지 않음</li>
+ *     <li>반영되지 않은 증가분을 모아 한 번의 batch update로 vote_count에 더함</li>
+ *     <li>반영할 때마다 투표 수 상위 게시글(top-K)을 다시 계산</li>
+ * </ul>
+ * 투표 수는 이 인스턴스에서 받은 투표와 시작시 DB 값을 합친 것이므로, 여러 인스턴스로 띄우면 다른 인스턴스의 투표는 재시작 전까지 상위 목록에 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequireBoardVoteCounter {
+
+    public static final int MAX_TOP = 100;
+
+    private final RequireBoardJdbcRepository jdbcRepository;
+
+    private final Map<Long, VoteCount> counts = new ConcurrentHashMap<>();
+    private volatile List<Long> topIds = List.of();
+
+    @TransactionalEventListener
+    public void onVoted(RequireBoardVotedEvent event) {
+        counts.computeIfAbsent(event.getBoardId(), id -> new VoteCount()).added.increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 투표 수
+     */
+    public long pending(Long boardId) {
+        VoteCount count = counts.get(boardId);
+        return count == null ? 0 : count.added.sum() - count.flushed;
+    }
+
+    /**
+     * 투표 수 상위 게시글 id (많은 순)
+     */
+    public List<Long> topIds(int size) {
+        List<Long> current = topIds;
+        return current.subList(0, Math.min(size, current.size()));
+    }
+
+    /**
+     * DB의 투표 수로 초기화 (그 전에 받은 투표는 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Map<Long, Long> stored = jdbcRepository.findVoteCounts();
+        stored.forEach((id, voteCount) -> {
+            VoteCount count = counts.computeIfAbsent(id, key -> new VoteCount());
+            // 이미 반영한 만큼은 DB 값에 포함되어 있으므로 제외
+            count.base = voteCount - count.flushed;
+        });
+        refreshTop();
+        log.info("RequireBoardVoteCounter.load -> {} boards", stored.size());
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${custom.require-board-vote.flush-ms:2000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counts.forEach((id, count) -> {
+            long delta = count.added.sum() - count.flushed;
+            if (delta > 0) deltas.put(id, delta);
+        });
+        if (deltas.isEmpty()) return;
+
+        try {
+            jdbcRepository.addVoteCounts(deltas);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증가분은 다음 주기에 다시 시도
+            log.warn("RequireBoardVoteCounter.flush -> 투표 수 반영 실패 : {} boards", deltas.size(), e);
+            return;
+        }
+
+        deltas.forEach((id, delta) -> counts.get(id).flushed += delta);
+        refreshTop();
+    }
+
+    /**
+     * 상위 MAX_TOP개만 남기는 최소 힙으로 top-K 계산
+     */
+    private void refreshTop() {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(MAX_TOP + 1, Comparator.comparingLong(entry -> entry[1]));
+        counts.forEach((id, count) -> {
+            long total = count.total();
+            if (total <= 0) return;
+            if (heap.size() < MAX_TOP) {
+                heap.add(new long[]{id, total});
+            } else if (total > heap.peek()[1]) {
+                heap.poll();
+                heap.add(new long[]{id, total});
+            }
+        });
+
+        Long[] ranked = new Long[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll()[0];
+        }
+        topIds = List.of(ranked);
+    }
+
+    private static final class VoteCount {
+        private final LongAdder added = new LongAdder();
+        // flush / load는 synchronized 안에서만 변경
+        private volatile long flushed;
+        private volatile long base;
+
+        private long total() {
+            return base + added.sum();
+        }
+    }
+}
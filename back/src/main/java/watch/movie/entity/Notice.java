@@ -5,10 +5,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import watch.movie.domain.notice.dto.NoticeDto;
 import watch.movie.entity.base.BaseEntity;
 
 @Entity
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_notice_create_date_id", columnList = "create_date desc, notice_id desc"),
+        @Index(name = "idx_notice_update_date", columnList = "update_date")
+})
 @Getter
 @Setter(AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
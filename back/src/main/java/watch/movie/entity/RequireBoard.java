@@ -8,7 +8,8 @@ import watch.movie.entity.base.BaseEntity;
 
 @Entity
 @Getter
-@Table(name = "required_board")
+@Table(name = "required_board",
+        indexes = @Index(name = "idx_required_board_create_date_id", columnList = "create_date desc, require_board_id desc"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RequireBoard extends BaseEntity {
 
@@ -26,12 +27,30 @@ public class RequireBoard extends BaseEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    // 투표 수 (RequireBoardVoteCounter가 주기적으로 모아서 반영)
+    @Column(name = "vote_count")
+    private Long voteCount;
+
     @Column(name = "upload_yn")
     private Character uploadYn;
 
     @Column(name = "delete_yn")
     private Character deleteYn;
 
+    private RequireBoard(Member member, String title, String content) {
+        this.member = member;
+        this.title = title;
+        this.content = content;
+        this.view = 0L;
+        this.voteCount = 0L;
+        this.uploadYn = 'N';
+        this.deleteYn = 'N';
+    }
+
+    public static RequireBoard of(Member member, String title, String content) {
+        return new RequireBoard(member, title, content);
+    }
+
     public void changeTitle(String title) {
         this.title = title;
     }
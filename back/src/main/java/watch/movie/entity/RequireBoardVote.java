@@ -0,0 +1,38 @@
+package watch.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 게시글 투표 기록 (회원당 게시글 하나에 한 번)
+ * 저장은 RequireBoardJdbcRepository.insertVote의 insert ... on conflict do nothing으로만 한다.
+ */
+@Entity
+@Getter
+@Table(name = "require_board_vote",
+        uniqueConstraints = @UniqueConstraint(name = "uk_require_board_vote_board_member",
+                columnNames = {"require_board_id", "member_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RequireBoardVote {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "require_board_vote_seq")
+    @SequenceGenerator(name = "require_board_vote_seq",
+            sequenceName = "REQUIRE_BOARD_VOTE_SEQUENCE"
+    )
+    @Column(name = "require_board_vote_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "require_board_id", nullable = false)
+    private RequireBoard requireBoard;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    private LocalDateTime createDate;
+}
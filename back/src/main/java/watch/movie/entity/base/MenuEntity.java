@@ -7,6 +7,7 @@ import jakarta.persistence.Id;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import watch.movie.domain.menu.dto.MenuDto;
 
 @Entity
 @Getter
@@ -21,4 +22,21 @@ public class MenuEntity extends BaseEntity{
     private String role;
     private String path;
 
+    private MenuEntity(Integer priority, String name, String role, String path) {
+        this.priority = priority;
+        this.name = name;
+        this.role = role;
+        this.path = path;
+    }
+
+    public static MenuEntity of(MenuDto menu) {
+        return new MenuEntity(menu.getPriority(), menu.getName(), menu.getRole(), menu.getPath());
+    }
+
+    public void change(MenuDto menu) {
+        this.priority = menu.getPriority();
+        this.name = menu.getName();
+        this.role = menu.getRole();
+        this.path = menu.getPath();
+    }
 }
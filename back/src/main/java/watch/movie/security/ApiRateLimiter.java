@@ -0,0 +1,45 @@
+package watch.movie.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 API 호출 한도 관리
+ * 요청 경로마다 차감하는 토큰 수(비용)를 다르게 두어 무거운 API일수록 한도에 빨리 도달하게 한다.
+ */
+@Component
+public class ApiRateLimiter {
+
+    /**
+     * 경로 prefix별 비용, 먼저 일치하는 항목을 사용하고 없으면 {@link #DEFAULT_COST}
+     */
+    private static final String[] ROUTE_PREFIXES = {"/members", "/notices", "/notice", "/video"};
+    private static final int[] ROUTE_COSTS = {5, 2, 1, 2};
+    private static final int DEFAULT_COST = 1;
+
+    private final TokenBucketTable buckets;
+
+    public ApiRateLimiter(@Value("${custom.rate-limit.slots:65536}") int slots,
+                          @Value("${custom.rate-limit.capacity:60}") int capacity,
+                          @Value("${custom.rate-limit.refill-per-second:10}") int refillPerSecond,
+                          @Value("${custom.rate-limit.idle-seconds:600}") long idleSeconds) {
+        this.buckets = new TokenBucketTable(slots, capacity, refillPerSecond, idleSeconds * 1000L);
+    }
+
+    /**
+     * 요청 한 번에 해당하는 토큰을 차감
+     * @param key 사용자 아이디 (비로그인 요청은 IP)
+     * @param path 요청 경로
+     * @return 성공하면 0, 한도를 넘었으면 다시 시도할 수 있을 때까지의 시간(ms)
+     */
+    public long tryAcquire(String key, String path) {
+        return buckets.tryAcquire(key, cost(path), System.currentTimeMillis());
+    }
+
+    static int cost(String path) {
+        for (int i = 0; i < ROUTE_PREFIXES.length; i++) {
+            if (path.startsWith(ROUTE_PREFIXES[i])) return ROUTE_COSTS[i];
+        }
+        return DEFAULT_COST;
+    }
+}
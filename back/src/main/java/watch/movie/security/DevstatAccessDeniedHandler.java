@@ -3,6 +3,7 @@ package watch.movie.security;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
@@ -10,10 +11,14 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 
 @Component
+@RequiredArgsConstructor
 public class DevstatAccessDeniedHandler implements AccessDeniedHandler {
+
+    private final JsonResponseWriter jsonResponseWriter;
+
     // 요청 거부당했을 경우
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
-        response.sendError(HttpServletResponse.SC_FORBIDDEN, "Access is denied!!");
+        jsonResponseWriter.writeError(response, HttpServletResponse.SC_FORBIDDEN, "Access is denied!!", accessDeniedException.getMessage());
     }
 }
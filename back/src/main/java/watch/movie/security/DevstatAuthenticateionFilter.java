@@ -15,6 +15,7 @@ import java.io.IOException;
 public class DevstatAuthenticateionFilter extends AbstractAuthenticationProcessingFilter {
 
     private ObjectMapper objectMapper = new ObjectMapper();
+    private LoginThrottle loginThrottle;
 
     public DevstatAuthenticateionFilter(){
         // 로그인 시도시에 필터 동작
@@ -27,6 +28,12 @@ public class DevstatAuthenticateionFilter extends AbstractAuthenticationProcessi
             throw new IllegalStateException("Authentication is supported only 'POST'");
         }
 
+        // 시도 한도를 넘었다면 DB 조회와 비밀번호 해시 전에 거절
+        if (loginThrottle != null && !loginThrottle.tryAcquireClientIp(request.getRemoteAddr())) {
+            throw new LoginThrottledException("too many login attempts from client",
+                    loginThrottle.clientIpRetryAfterSeconds(request.getRemoteAddr()));
+        }
+
         // body를 UserVo에 맵핑
         accountVo accountVo = objectMapper.readValue(request.getReader(), accountVo.class);
 
@@ -34,6 +41,11 @@ public class DevstatAuthenticateionFilter extends AbstractAuthenticationProcessi
             throw new IllegalArgumentException("userName or userPassword is empty!!");
         }
 
+        if (loginThrottle != null && !loginThrottle.tryAcquireLoginId(accountVo.getName())) {
+            throw new LoginThrottledException("too many login attempts for user",
+                    loginThrottle.loginIdRetryAfterSeconds(accountVo.getName()));
+        }
+
         // 토큰생성
         DevstatAuthenticationToken token = new DevstatAuthenticationToken(
                 accountVo.getName(),
@@ -43,6 +55,10 @@ public class DevstatAuthenticateionFilter extends AbstractAuthenticationProcessi
         return getAuthenticationManager().authenticate(token);
     }
 
+    public void setLoginThrottle(LoginThrottle loginThrottle) {
+        this.loginThrottle = loginThrottle;
+    }
+
     @Data
     public static class accountVo{
         private String name;
@@ -2,8 +2,10 @@ package watch.movie.security;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,19 +13,29 @@ import org.springframework.security.web.authentication.AuthenticationFailureHand
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.HashMap;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class DevstatAuthenticationFailureHandler implements AuthenticationFailureHandler {
 
+    private final JsonResponseWriter jsonResponseWriter;
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException {
-        JSONObject jsonObject;
         String errMsg = "";
-
-        if (exception instanceof AuthenticationServiceException) {
+        int status = HttpServletResponse.SC_UNAUTHORIZED;
+
+        if (exception instanceof LoginThrottledException throttled) {
+            errMsg = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+            status = HttpStatus.TOO_MANY_REQUESTS.value();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()));
+        } else if (exception instanceof PasswordHashingUnavailableException unavailable) {
+            // 비밀번호 확인 자체를 하지 못했으므로 자격 증명 오류(401)와 구분
+            errMsg = "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+            status = HttpStatus.SERVICE_UNAVAILABLE.value();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(unavailable.getRetryAfterSeconds()));
+        } else if (exception instanceof AuthenticationServiceException) {
             errMsg = "로그인 정보가 일치하지 않습니다.";
         } else if (exception instanceof LockedException) {
             errMsg = "계정이 잠겨 있습니다.";
@@ -37,19 +49,7 @@ public class DevstatAuthenticationFailureHandler implements AuthenticationFailur
             errMsg = "아이디 혹은 비밀번호가 틀렸습니다.";
         }
 
-        response.setCharacterEncoding("UTF-8");
-        response.setContentType("application/json");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-        HashMap<String, Object> resultMap = new HashMap<>();
-        resultMap.put("userInfo", null);
-        resultMap.put("resultCode", 9999);
-        resultMap.put("failMessage", errMsg);
-        jsonObject = new JSONObject(resultMap);
-
-        try (PrintWriter printWriter = response.getWriter()) {
-            printWriter.print(jsonObject); // 최종 저장된 '사용자 정보', '사이트 정보'를 Front에 전달
-            printWriter.flush();
-        }
+        // 최종 저장된 '사용자 정보', '사이트 정보'를 Front에 전달
+        jsonResponseWriter.writeLoginFailure(response, status, errMsg);
     }
 }
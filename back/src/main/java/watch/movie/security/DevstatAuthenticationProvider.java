@@ -1,6 +1,7 @@
 package watch.movie.security;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
@@ -8,14 +9,17 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import watch.movie.domain.member.service.MemberService;
 import watch.movie.entity.Member;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DevstatAuthenticationProvider implements AuthenticationProvider {
 
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final MemberService memberService;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
@@ -28,6 +32,15 @@ public class DevstatAuthenticationProvider implements AuthenticationProvider {
             throw new BadCredentialsException("password is not matched");
         }
 
+        // 이전 방식의 해시라면 로그인에 성공한 지금 평문으로 다시 해시해서 저장
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            try {
+                memberService.changePassword(member.getId(), passwordEncoder.encode(loginPwd));
+            } catch (RuntimeException e) {
+                log.warn("password rehash failed : {}", member.getId(), e);
+            }
+        }
+
         member.changePassword(null);
 
         return new DevstatAuthenticationToken(member, loginPwd, member.getAuthorities());
@@ -1,47 +1,31 @@
 package watch.movie.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.SneakyThrows;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONObject;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import watch.movie.entity.Member;
 import watch.movie.utility.JwtUtil;
 
-import java.io.PrintWriter;
-import java.util.HashMap;
+import java.io.IOException;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class DevstatAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonResponseWriter jsonResponseWriter;
 
-    @SneakyThrows
     @Override
-    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
         Member member = (Member) authentication.getPrincipal();
 
-        objectMapper.registerModule(new JavaTimeModule());
-        JSONObject userVoOjbect = new JSONObject(objectMapper.writeValueAsString(member));
-
-        HashMap<String, Object> map = new HashMap<>();
-
-        map.put("userInfo", userVoOjbect);
-        map.put("resultCode", 200);
-        map.put("failMessage", null);
-
-        JSONObject jsonObject = new JSONObject(map);
-
         // JWT토큰 생성
         String token = JwtUtil.createJwtToken(member);
-        jsonObject.put("token", token);
 
         // 쿠키에 토큰 저장
         Cookie jwtCookie = new Cookie("DEVSTAT-JWT", token);
@@ -49,12 +33,7 @@ public class DevstatAuthenticationSuccessHandler implements AuthenticationSucces
         jwtCookie.setPath("/"); // 모든경로에서 쿠키 접근할 수 있게 설정
         response.addCookie(jwtCookie);
 
-        response.setCharacterEncoding("UTF-8");
-        response.setContentType("application/json");
-
-        try (PrintWriter printWriter = response.getWriter()) {
-            printWriter.print(jsonObject); // 최종 저장된 '사용자 정보', '사이트 정보'를 Front에 전달
-            printWriter.flush();
-        }
+        // 최종 저장된 '사용자 정보', '사이트 정보'를 Front에 전달
+        jsonResponseWriter.writeLoginSuccess(response, member, token);
     }
 }
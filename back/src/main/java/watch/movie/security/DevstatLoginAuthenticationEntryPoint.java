@@ -3,6 +3,7 @@ package watch.movie.security;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -10,10 +11,14 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 
 @Component
+@RequiredArgsConstructor
 public class DevstatLoginAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final JsonResponseWriter jsonResponseWriter;
+
     // 권한이 없을경우
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException {
-        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "UnAuthorized!!");
+        jsonResponseWriter.writeError(response, HttpServletResponse.SC_UNAUTHORIZED, "UnAuthorized!!", authException.getMessage());
     }
 }
@@ -1,31 +1,79 @@
 package watch.movie.security;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
+/**
+ * BCrypt 해시는 {@link PasswordHashingService}의 전용 스레드풀에서 계산한다.
+ * 이전에 저장된 SHA-256 해시도 그대로 검증하며, {@link #upgradeEncoding(String)}으로 다시 해시할 대상임을 알린다.
+ */
 @Component
+@RequiredArgsConstructor
 public class DevstatPasswordEncoder implements PasswordEncoder {
+
+    private static final int LEGACY_LENGTH = 64;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final PasswordHashingService hashingService;
+
     @Override
     public String encode(CharSequence rawPassword) {
-        MessageDigest md = null;
+        return hashingService.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) return false;
+
+        if (isLegacy(encodedPassword)) {
+            return MessageDigest.isEqual(legacyEncode(rawPassword).getBytes(), encodedPassword.getBytes());
+        }
+        return hashingService.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) return false;
+
+        return isLegacy(encodedPassword) || hashingService.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 이전 방식(솔트 없는 SHA-256)으로 저장된 해시인지 여부
+     */
+    static boolean isLegacy(String encodedPassword) {
+        if (encodedPassword.length() != LEGACY_LENGTH) return false;
+
+        for (int i = 0; i < LEGACY_LENGTH; i++) {
+            char c = encodedPassword.charAt(i);
+            if (!(c == ' ' || (c >= '0' && c <= '9') || (c >= 'A' && c <= 'F'))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 이전 방식의 해시 계산
+     * 기존 값과 같아야 하므로 String.format("%2X")와 동일하게 상위 4bit가 0이면 공백으로 채운다.
+     */
+    static String legacyEncode(CharSequence rawPassword) {
+        MessageDigest md;
         try {
             md = MessageDigest.getInstance("SHA-256");
-            md.update(((String) rawPassword).getBytes());
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
-        byte[] pwd = md.digest();  // 배열 pwd : 문자열 str이 암호화된 32바이트 크기의 배열
-        StringBuilder sb = new StringBuilder();
+        byte[] pwd = md.digest(rawPassword.toString().getBytes());  // 배열 pwd : 문자열 str이 암호화된 32바이트 크기의 배열
+
+        char[] hex = new char[pwd.length * 2];
         for (int i = 0; i < pwd.length; i++) {
-            sb.append(String.format("%2X", pwd[i])); // %2X(2자리 16진수(0~F))
+            int value = pwd[i] & 0xff;
+            hex[i * 2] = (value >>> 4) == 0 ? ' ' : HEX[value >>> 4];
+            hex[i * 2 + 1] = HEX[value & 0x0f];
         }
-        return sb.toString();
-    }
-
-    @Override
-    public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        return encode(rawPassword).equals(encodedPassword);
+        return new String(hex);
     }
 }
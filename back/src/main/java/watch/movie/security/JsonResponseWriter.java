@@ -0,0 +1,100 @@
+package watch.movie.security;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import watch.movie.entity.Member;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 보안 Handler / Filter의 JSON 응답을 response에 바로 스트리밍하는 공용 컴포넌트
+ * 미리 만들어 둔 {@link ObjectWriter}와 {@link JsonGenerator}를 사용하므로 중간 문자열이나 Map을 만들지 않는다.
+ */
+@Component
+public class JsonResponseWriter {
+
+    private static final String CONTENT_TYPE = "application/json";
+    private static final String ERROR_CODE = "9999";
+    private static final int FAIL_RESULT_CODE = 9999;
+
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter memberWriter;
+
+    public JsonResponseWriter() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        this.jsonFactory = objectMapper.getFactory();
+        this.memberWriter = objectMapper.writerFor(Member.class);
+    }
+
+    /**
+     * 로그인 성공 응답 {"userInfo": {...}, "resultCode": 200, "token": "..."}
+     */
+    public void writeLoginSuccess(HttpServletResponse response, Member member, String token) throws IOException {
+        prepare(response, HttpServletResponse.SC_OK);
+        writeLoginSuccess(response.getOutputStream(), member, token);
+    }
+
+    /**
+     * 로그인 실패 응답 {"resultCode": 9999, "failMessage": "..."}
+     */
+    public void writeLoginFailure(HttpServletResponse response, int status, String failMessage) throws IOException {
+        prepare(response, status);
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("resultCode", FAIL_RESULT_CODE);
+            generator.writeStringField("failMessage", failMessage);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 인증 / 인가 오류 응답 {"status": 401, "code": "9999", "message": "...", "reason": "..."}
+     */
+    public void writeError(HttpServletResponse response, int status, String message, String reason) throws IOException {
+        prepare(response, status);
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("status", status);
+            generator.writeStringField("code", ERROR_CODE);
+            generator.writeStringField("message", message);
+            generator.writeStringField("reason", reason);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 처리 결과 응답 {"result": "..."}
+     */
+    public void writeResult(HttpServletResponse response, int status, String result) throws IOException {
+        prepare(response, status);
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("result", result);
+            generator.writeEndObject();
+        }
+    }
+
+    void writeLoginSuccess(OutputStream out, Member member, String token) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeFieldName("userInfo");
+            memberWriter.writeValue(generator, member);
+            generator.writeNumberField("resultCode", HttpServletResponse.SC_OK);
+            generator.writeStringField("token", token);
+            generator.writeEndObject();
+        }
+    }
+
+    private void prepare(HttpServletResponse response, int status) {
+        response.setStatus(status);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(CONTENT_TYPE);
+    }
+}
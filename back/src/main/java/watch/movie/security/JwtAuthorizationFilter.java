@@ -1,6 +1,5 @@
 package watch.movie.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -18,11 +17,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 import watch.movie.utility.ItemCheck;
+import watch.movie.utility.JwtPayload;
 import watch.movie.utility.JwtUtil;
 
 import java.io.IOException;
 import java.security.SignatureException;
-import java.util.HashMap;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -31,6 +30,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     @Autowired
     UserDetailsService userDetailsService;
 
+    @Autowired
+    JsonResponseWriter jsonResponseWriter;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
 
@@ -60,8 +62,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         try {
             if (ItemCheck.isNotEmpty(token)) {
-                if (JwtUtil.isValidToken(token)) {
-                    String loginId = JwtUtil.getUserIdFromToken(token);
+                JwtPayload jwtPayload = JwtUtil.verifyToken(token);
+                if (ItemCheck.isNotEmpty(jwtPayload)) {
+                    String loginId = jwtPayload.getLoginId();
                     log.debug("loginId Check :: " + loginId);
 
                     if (ItemCheck.isNotEmpty(loginId)) {
@@ -74,23 +77,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             }else throw new DevstatException(ErrorCode.TOKEN_NOT_FOUND);
         } catch (Exception e) {
 
-            // Client에게 인증 실패시 보낼 Message
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setCharacterEncoding("UTF-8");
-            response.setContentType("application/json");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            objectMapper.writeValue(response.getWriter(), tokenErrorTrace(e));
-
             Cookie jwt = new Cookie("DEVSTAT-JWT", null);
             jwt.setMaxAge(0);
             jwt.setPath("/");
             response.addCookie(jwt);
+
+            // Client에게 인증 실패시 보낼 Message
+            jsonResponseWriter.writeError(response, HttpServletResponse.SC_UNAUTHORIZED, tokenErrorTrace(e), e.getMessage());
         }
     }
 
-    private HashMap<String, Object> tokenErrorTrace(Exception e){
+    private String tokenErrorTrace(Exception e){
         String resultMessage;
         if (e instanceof ExpiredJwtException){
             resultMessage = "TOKEN Expired";
@@ -102,12 +99,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             resultMessage = "로그인 정보가 없습니다. 로그인해 주세요.\n\r같은 에러가 반복되면 관리자에게 문의하세요.";
         }
 
-        HashMap<String, Object> jsonMap = new HashMap<>();
-        jsonMap.put("status", 401);
-        jsonMap.put("code", "9999");
-        jsonMap.put("message", resultMessage);
-        jsonMap.put("reason", e.getMessage());
         log.debug(resultMessage, e);
-        return jsonMap;
+        return resultMessage;
     }
-}
+}
\ No newline at end of file
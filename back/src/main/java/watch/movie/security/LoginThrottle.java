@@ -0,0 +1,78 @@
+package watch.movie.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도를 아이디별, 접속 IP별로 집계해서 한도를 넘은 시도를 DB 조회나 해시 계산 전에 거절한다.
+ * 집계는 {@link SlidingWindowCounter}로 하므로 사용자 수와 관계없이 메모리 사용량이 고정된다.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final int DEPTH = 2;
+
+    private final SlidingWindowCounter loginIdCounter;
+    private final SlidingWindowCounter clientIpCounter;
+    private final int maxAttemptsPerLoginId;
+    private final int maxAttemptsPerClientIp;
+
+    public LoginThrottle(@Value("${custom.login-throttle.slots:4096}") int slots,
+                         @Value("${custom.login-throttle.window-seconds:60}") long windowSeconds,
+                         @Value("${custom.login-throttle.max-attempts-per-id:10}") int maxAttemptsPerLoginId,
+                         @Value("${custom.login-throttle.max-attempts-per-ip:50}") int maxAttemptsPerClientIp) {
+        this.loginIdCounter = new SlidingWindowCounter(slots, DEPTH, windowSeconds * 1000L);
+        this.clientIpCounter = new SlidingWindowCounter(slots, DEPTH, windowSeconds * 1000L);
+        this.maxAttemptsPerLoginId = maxAttemptsPerLoginId;
+        this.maxAttemptsPerClientIp = maxAttemptsPerClientIp;
+    }
+
+    /**
+     * 접속 IP의 시도를 기록하고 한도 이내인지 확인
+     */
+    public boolean tryAcquireClientIp(String clientIp) {
+        return tryAcquireClientIp(clientIp, System.currentTimeMillis());
+    }
+
+    boolean tryAcquireClientIp(String clientIp, long nowMillis) {
+        return clientIpCounter.incrementAndEstimate(clientIp, nowMillis) <= maxAttemptsPerClientIp;
+    }
+
+    /**
+     * 로그인 아이디의 시도를 기록하고 한도 이내인지 확인
+     */
+    public boolean tryAcquireLoginId(String loginId) {
+        return tryAcquireLoginId(loginId, System.currentTimeMillis());
+    }
+
+    boolean tryAcquireLoginId(String loginId, long nowMillis) {
+        return loginIdCounter.incrementAndEstimate(loginId, nowMillis) <= maxAttemptsPerLoginId;
+    }
+
+    /**
+     * 접속 IP의 다음 시도가 허용될 때까지 남은 시간 (초, 최소 1)
+     */
+    public long clientIpRetryAfterSeconds(String clientIp) {
+        return clientIpRetryAfterSeconds(clientIp, System.currentTimeMillis());
+    }
+
+    long clientIpRetryAfterSeconds(String clientIp, long nowMillis) {
+        return toSeconds(clientIpCounter.millisUntilAllowed(clientIp, maxAttemptsPerClientIp, nowMillis));
+    }
+
+    /**
+     * 로그인 아이디의 다음 시도가 허용될 때까지 남은 시간 (초, 최소 1)
+     * 직전 구간의 시도는 구간이 바뀐 뒤에도 남은 비율만큼 반영되므로, 현재 구간이 끝날 때보다 늦을 수 있다.
+     */
+    public long loginIdRetryAfterSeconds(String loginId) {
+        return loginIdRetryAfterSeconds(loginId, System.currentTimeMillis());
+    }
+
+    long loginIdRetryAfterSeconds(String loginId, long nowMillis) {
+        return toSeconds(loginIdCounter.millisUntilAllowed(loginId, maxAttemptsPerLoginId, nowMillis));
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
@@ -0,0 +1,23 @@
+package watch.movie.security;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 시도 한도를 넘은 경우
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 다시 시도하기까지 기다릴 시간 (Retry-After)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
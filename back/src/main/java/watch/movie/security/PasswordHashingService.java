@@ -0,0 +1,156 @@
+package watch.movie.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 계산을 전용 스레드풀에서 처리하는 서비스
+ * <p>
+ * 스레드 수와 대기열 크기가 고정되어 있어 로그인이 몰려도 해시 계산이 사용하는 CPU는 스레드 수만큼으로 제한된다.
+ * 대기열이 가득 차면 즉시 거절하고, 대기 시간이 초과되어도 실패로 처리한다.
+ * 회원 일괄 등록처럼 한 번에 많은 해시가 필요한 작업은 별도 스레드풀을 사용하므로 로그인 처리를 밀어내지 않는다.
+ * 일괄 작업용 스레드 수를 지정하지 않으면(0) 로그인용 스레드를 뺀 CPU 코어 수(최소 1)를 사용한다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder bcrypt;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final long timeoutMillis;
+
+    public PasswordHashingService(@Value("${custom.password.threads:2}") int threads,
+                                  @Value("${custom.password.queue-capacity:64}") int queueCapacity,
+                                  @Value("${custom.password.cost:10}") int cost,
+                                  @Value("${custom.password.timeout-ms:3000}") long timeoutMillis,
+                                  @Value("${custom.password.bulk-threads:0}") int bulkThreads) {
+        this.bcrypt = new BCryptPasswordEncoder(cost);
+        this.timeoutMillis = timeoutMillis;
+        if (bulkThreads <= 0) bulkThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - threads);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // 대기열이 가득 차면 요청한 스레드가 직접 계산하므로 일괄 작업 속도가 스레드 수에 맞춰 조절된다
+        this.bulkExecutor = new ThreadPoolExecutor(
+                bulkThreads, bulkThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkThreads * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-bulk-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * 비밀번호를 현재 설정된 cost로 해시
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> bcrypt.encode(rawPassword));
+    }
+
+    /**
+     * 여러 비밀번호를 일괄 작업용 스레드풀에서 병렬로 해시
+     * @param rawPasswords 평문 비밀번호
+     * @return 같은 순서의 BCrypt 해시
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (CharSequence rawPassword : rawPasswords) {
+            futures.add(bulkExecutor.submit(() -> bcrypt.encode(rawPassword)));
+        }
+
+        List<String> encoded = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                encoded.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new AuthenticationServiceException("password hashing failed", e.getCause());
+        }
+        return encoded;
+    }
+
+    /**
+     * 평문 비밀번호와 BCrypt 해시가 일치하는지 확인
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시의 cost가 현재 설정보다 낮아 다시 해시해야 하는지 여부
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return bcrypt.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 전용 스레드풀에서 작업을 실행하고 결과를 기다림
+     * 대기열이 가득 찼거나 제한 시간이 지나면 {@link PasswordHashingUnavailableException}, 그 외 실패는 {@link AuthenticationServiceException}
+     */
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("password hashing queue is full : {}", executor.getQueue().size());
+            throw new PasswordHashingUnavailableException("password hashing queue is full", retryAfterSeconds(), e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException("password hashing timed out", retryAfterSeconds(), e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new AuthenticationServiceException("password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * 대기 제한 시간만큼 뒤에 다시 시도하도록 안내 (최소 1초)
+     */
+    private long retryAfterSeconds() {
+        return Math.max(1, (timeoutMillis + 999) / 1000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+}
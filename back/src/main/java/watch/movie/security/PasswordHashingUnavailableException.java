@@ -0,0 +1,23 @@
+package watch.movie.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 해시 계산 대기열이 가득 찼거나 대기 시간이 지나 비밀번호를 확인하지 못한 경우 (서버 과부하, 자격 증명 오류 아님)
+ */
+public class PasswordHashingUnavailableException extends AuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(String msg, long retryAfterSeconds, Throwable cause) {
+        super(msg, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 다시 시도하기까지 기다릴 시간 (Retry-After)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
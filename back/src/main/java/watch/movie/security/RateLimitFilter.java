@@ -0,0 +1,61 @@
+package watch.movie.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * JwtAuthorizationFilter 다음에서 사용자별 호출 한도를 확인하고, 넘었다면 429와 Retry-After를 응답
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final ApiRateLimiter apiRateLimiter;
+    private final JsonResponseWriter jsonResponseWriter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        // 요청 Method가 Options의 경우 pass
+        if (request.getMethod().equalsIgnoreCase("OPTIONS")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterMillis = apiRateLimiter.tryAcquire(rateLimitKey(request), request.getRequestURI());
+        if (retryAfterMillis == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("rate limited : {} {}", request.getRequestURI(), retryAfterMillis);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        jsonResponseWriter.writeError(response, HttpStatus.TOO_MANY_REQUESTS.value(),
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", null);
+    }
+
+    /**
+     * 로그인한 사용자는 아이디, 그 외에는 접속 IP 기준으로 집계
+     */
+    private String rateLimitKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,168 @@
+package watch.movie.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 메모리로 key별 시도 횟수를 근사하는 sliding window 카운터
+ * <p>
+ * key의 문자열을 행마다 다른 seed로 해시(murmur3)해서 {@code depth}개의 행마다 슬롯 하나씩을 고르고(count-min sketch),
+ * 슬롯마다 현재 구간과 직전 구간의 카운트를 (구간번호 32bit | 카운트 32bit) 형태의 long 하나로 CAS 갱신한다.
+ * 추정치는 직전 구간 카운트를 남은 비율만큼 더한 값이며, 구간이 지나면 오래된 카운트는 자동으로 버려진다.
+ * 해시 충돌로 실제보다 크게 추정될 수는 있어도 작게 추정되지는 않는다.
+ * {@link String#hashCode()}가 같은 key(예: "Aa", "BB")도 행마다 독립적으로 슬롯이 정해지므로 모든 행에서 함께 충돌하지 않는다.
+ */
+public class SlidingWindowCounter {
+
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final AtomicLongArray cells;
+    private final int depth;
+    private final int mask;
+    private final long windowMillis;
+
+    /**
+     * @param slots 행마다의 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param depth 해시 행 수 (1 ~ 4)
+     * @param windowMillis 구간 길이
+     */
+    public SlidingWindowCounter(int slots, int depth, long windowMillis) {
+        if (depth < 1 || depth > SEEDS.length) throw new IllegalArgumentException("depth : " + depth);
+        if (windowMillis <= 0) throw new IllegalArgumentException("windowMillis : " + windowMillis);
+
+        int size = Integer.highestOneBit(Math.max(2, slots - 1) << 1);
+        this.depth = depth;
+        this.mask = size - 1;
+        this.windowMillis = windowMillis;
+        this.cells = new AtomicLongArray(depth * size * 2);
+    }
+
+    /**
+     * 시도 한 번을 기록하고 기록 후의 추정 횟수를 반환
+     * @param key 집계 대상
+     * @param nowMillis 현재 시각
+     * @return sliding window 안의 추정 시도 횟수
+     */
+    public int incrementAndEstimate(String key, long nowMillis) {
+        long epoch = nowMillis / windowMillis;
+        double previousWeight = 1.0 - (double) (nowMillis - epoch * windowMillis) / windowMillis;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int base = base(key, row);
+            int current = increment(base + (int) (epoch & 1), epoch);
+            int previous = count(base + (int) ((epoch - 1) & 1), epoch - 1);
+            estimate = Math.min(estimate, current + (int) (previous * previousWeight));
+        }
+        return estimate;
+    }
+
+    /**
+     * 기록 없이 현재 추정 횟수만 반환
+     */
+    public int estimate(String key, long nowMillis) {
+        long epoch = nowMillis / windowMillis;
+        double previousWeight = 1.0 - (double) (nowMillis - epoch * windowMillis) / windowMillis;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int base = base(key, row);
+            int current = count(base + (int) (epoch & 1), epoch);
+            int previous = count(base + (int) ((epoch - 1) & 1), epoch - 1);
+            estimate = Math.min(estimate, current + (int) (previous * previousWeight));
+        }
+        return estimate;
+    }
+
+    /**
+     * 더 시도하지 않는다면 다음 시도가 한도 이내가 되기까지 남은 시간
+     * 행마다 추정치가 줄어드는 시점을 계산해서 가장 이른 시점을 사용한다. (추정치는 행들의 최솟값)
+     * @param limit 허용 횟수 (기록 후 추정치가 limit 이하이면 허용)
+     * @return 지금 바로 허용되면 0, 아니면 ms
+     */
+    public long millisUntilAllowed(String key, int limit, long nowMillis) {
+        long epoch = nowMillis / windowMillis;
+        long offset = nowMillis - epoch * windowMillis;
+
+        long wait = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int base = base(key, row);
+            int current = count(base + (int) (epoch & 1), epoch);
+            int previous = count(base + (int) ((epoch - 1) & 1), epoch - 1);
+            wait = Math.min(wait, waitMillis(current, previous, limit, offset));
+        }
+        return wait;
+    }
+
+    /**
+     * 한 행의 현재 / 직전 구간 카운트로 다음 시도가 허용되기까지의 시간
+     * 다음 시도는 현재 구간 카운트를 1 늘리므로 그 전의 추정치(current + previous x 남은 비율)가 limit 미만이어야 한다.
+     */
+    private long waitMillis(long current, long previous, long limit, long offset) {
+        if (current < limit) {
+            if (previous == 0) return 0;
+            // 구간 안 위치 x에서 previous x (W - x) < (limit - current) x W 가 되는 가장 작은 x
+            long x = windowMillis - ceilDiv((limit - current) * windowMillis, previous) + 1;
+            if (x < windowMillis) return Math.max(0, x - offset);
+        }
+        // 다음 구간에서는 지금의 current가 직전 구간 카운트가 되어 줄어듦
+        long y = current == 0 ? 0 : Math.max(0, windowMillis - ceilDiv(limit * windowMillis, current) + 1);
+        return windowMillis - offset + y;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * row 행에서 key가 사용하는 두 칸(현재 / 직전 구간) 중 첫 칸의 위치
+     */
+    private int base(String key, int row) {
+        return (row * (mask + 1) + (hash(key, SEEDS[row]) & mask)) << 1;
+    }
+
+    private int increment(int index, long epoch) {
+        long stamp = (epoch & 0xFFFFFFFFL) << 32;
+        while (true) {
+            long value = cells.get(index);
+            int count = (value & 0xFFFFFFFF00000000L) == stamp ? (int) value : 0;
+            if (count == Integer.MAX_VALUE) return count;
+            if (cells.compareAndSet(index, value, stamp | (count + 1))) return count + 1;
+        }
+    }
+
+    private int count(int index, long epoch) {
+        long value = cells.get(index);
+        return (value >>> 32) == (epoch & 0xFFFFFFFFL) ? (int) value : 0;
+    }
+
+    /**
+     * UTF-16 문자를 두 개씩 묶어 계산하는 murmur3 (x86_32)
+     */
+    static int hash(String key, int seed) {
+        int h = seed;
+        int length = key.length();
+        int i = 0;
+        for (; i + 1 < length; i += 2) {
+            h ^= mixK(key.charAt(i) | (key.charAt(i + 1) << 16));
+            h = Integer.rotateLeft(h, 13) * 5 + 0xE6546B64;
+        }
+        if (i < length) h ^= mixK(key.charAt(i));
+        return mix(h ^ (length * 2));
+    }
+
+    private static int mixK(int k) {
+        k *= 0xCC9E2D51;
+        k = Integer.rotateLeft(k, 15);
+        return k * 0x1B873593;
+    }
+
+    /**
+     * murmur3 fmix32
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,169 @@
+package watch.movie.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * key별 token bucket을 고정 크기 open-addressing 테이블에 담아 lock 없이 관리
+ * <p>
+ * bucket의 상태는 (마지막 충전 시각 40bit | 남은 토큰 x 1000 24bit) 형태의 long 하나이며, 충전과 차감을 CAS 한 번으로 처리한다.
+ * 오래 사용하지 않은 bucket은 어차피 가득 찬 상태이므로 별도 정리 작업 없이 새 key가 그 자리를 차지한다.
+ * 탐색 범위가 모두 사용 중이면 사용 중인 bucket을 밀어내지도, 다른 key의 bucket을 함께 쓰지도 않고 별도의 overflow map에 key의 bucket을 만든다.
+ * (밀어내면 밀려난 key의 한도가 초기화되고, 함께 쓰면 관계없는 사용자끼리 한도를 나눠 쓰게 됨)
+ * overflow map은 크기가 두 배가 될 때마다 오래 쉰 bucket을 정리하므로 최근 idle 시간 안에 사용된 key 수만큼만 커진다.
+ */
+public class TokenBucketTable {
+
+    private static final int MAX_PROBE = 8;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final int MILLI = 1000;
+    private static final int MIN_OVERFLOW_SWEEP = 1024;
+
+    private static final AtomicLongFieldUpdater<Bucket> STATE =
+            AtomicLongFieldUpdater.newUpdater(Bucket.class, "state");
+
+    private final AtomicReferenceArray<Bucket> table;
+    private final int mask;
+    private final long capacityMilli;
+    private final long refillPerSecond;
+    private final long idleMillis;
+    private final long origin;
+    private final Map<String, Bucket> overflow = new ConcurrentHashMap<>();
+    private volatile int overflowSweepAt = MIN_OVERFLOW_SWEEP;
+
+    /**
+     * @param slots 테이블 크기 (2의 거듭제곱으로 올림)
+     * @param capacity bucket 최대 토큰 수
+     * @param refillPerSecond 초당 충전되는 토큰 수
+     * @param idleMillis 이 시간 이상 쓰이지 않은 bucket은 재사용 대상
+     */
+    public TokenBucketTable(int slots, int capacity, int refillPerSecond, long idleMillis) {
+        if (capacity <= 0 || (long) capacity * MILLI > TOKEN_MASK) throw new IllegalArgumentException("capacity : " + capacity);
+        if (refillPerSecond <= 0) throw new IllegalArgumentException("refillPerSecond : " + refillPerSecond);
+
+        int size = Integer.highestOneBit(Math.max(MAX_PROBE, slots - 1) << 1);
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.capacityMilli = (long) capacity * MILLI;
+        this.refillPerSecond = refillPerSecond;
+        // 가득 찰 때까지 걸리는 시간보다 짧으면 밀어낸 bucket의 잔량을 잃게 되므로 최소값을 보장
+        this.idleMillis = Math.max(idleMillis, capacityMilli / refillPerSecond);
+        this.origin = System.currentTimeMillis();
+    }
+
+    /**
+     * key의 bucket에서 토큰을 차감
+     * @param key 집계 대상
+     * @param cost 차감할 토큰 수
+     * @param nowMillis 현재 시각
+     * @return 성공하면 0, 토큰이 부족하면 충분히 충전될 때까지 기다려야 하는 시간(ms)
+     */
+    public long tryAcquire(String key, int cost, long nowMillis) {
+        long now = Math.max(0, nowMillis - origin);
+        long need = (long) cost * MILLI;
+        if (need > capacityMilli) return Long.MAX_VALUE;
+
+        Bucket bucket = bucket(key, now);
+        while (true) {
+            long state = bucket.state;
+            long tokens = refill(state, now);
+            if (tokens < need) {
+                return (need - tokens + refillPerSecond - 1) / refillPerSecond;
+            }
+            long last = Math.max(now, state >>> TOKEN_BITS);
+            if (STATE.compareAndSet(bucket, state, (last << TOKEN_BITS) | (tokens - need))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 마지막 충전 시각부터 지금까지 충전된 토큰을 더한 값 (x 1000)
+     */
+    private long refill(long state, long now) {
+        long elapsed = now - (state >>> TOKEN_BITS);
+        long tokens = state & TOKEN_MASK;
+        if (elapsed <= 0) return tokens;
+
+        // 1 token/s == 1 milli-token/ms
+        return Math.min(capacityMilli, tokens + Math.min(elapsed, idleMillis) * refillPerSecond);
+    }
+
+    private Bucket bucket(String key, long now) {
+        int start = mix(key.hashCode()) & mask;
+
+        // 1. 이미 있는 bucket 탐색 (테이블 -> overflow)
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            Bucket bucket = table.get((start + probe) & mask);
+            if (bucket == null) break;
+            if (bucket.key.equals(key)) return bucket;
+        }
+        if (!overflow.isEmpty()) {
+            Bucket bucket = overflow.get(key);
+            if (bucket != null) return bucket;
+        }
+
+        // 2. 빈 자리나 오래 쉰 bucket 자리에 새로 등록
+        Bucket created = new Bucket(key, full(now));
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            int index = (start + probe) & mask;
+            Bucket bucket = table.get(index);
+            if (bucket == null || now - (bucket.state >>> TOKEN_BITS) >= idleMillis) {
+                if (table.compareAndSet(index, bucket, created)) return created;
+                bucket = table.get(index);
+                if (bucket == null) continue;
+            }
+            if (bucket.key.equals(key)) return bucket;
+        }
+
+        // 3. 모두 사용 중이면 overflow map에 등록
+        if (overflow.size() >= overflowSweepAt) sweepOverflow(now);
+        return overflow.computeIfAbsent(key, k -> new Bucket(k, full(now)));
+    }
+
+    /**
+     * 오래 쉰 bucket은 가득 찬 상태이므로 제거해도 한도가 바뀌지 않음
+     */
+    private synchronized void sweepOverflow(long now) {
+        if (overflow.size() < overflowSweepAt) return;
+
+        overflow.values().removeIf(bucket -> now - (bucket.state >>> TOKEN_BITS) >= idleMillis);
+        overflowSweepAt = Math.max(MIN_OVERFLOW_SWEEP, overflow.size() * 2);
+    }
+
+    private long full(long now) {
+        return (now << TOKEN_BITS) | capacityMilli;
+    }
+
+    /**
+     * overflow map에 있는 bucket 수 (테스트용)
+     */
+    int overflowSize() {
+        return overflow.size();
+    }
+
+    /**
+     * murmur3 fmix32
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static final class Bucket {
+        private final String key;
+        private volatile long state;
+
+        private Bucket(String key, long state) {
+            this.key = key;
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package watch.movie.utility;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * ETag / Last-Modified 조건부 요청 처리
+ * 본문을 만들기 전에 리소스의 버전(수정일시 등)만으로 ETag를 계산해서, 변경이 없으면 304로 바로 응답한다.
+ * <pre>
+ * if (ConditionalRequest.notModified(request, lastModified, cond, pageable)) return null;
+ * </pre>
+ */
+public class ConditionalRequest {
+
+    private ConditionalRequest() {
+    }
+
+    /**
+     * 클라이언트가 가진 버전과 같은지 확인하고, 같으면 304 응답으로 설정
+     * 다르면 ETag / Last-Modified 헤더만 설정하므로 그대로 본문을 응답하면 된다.
+     * @param lastModified 리소스의 마지막 수정일시 (없으면 null)
+     * @param versionParts ETag에 포함할 값 (조회 조건, 페이지 등 같은 수정일시라도 본문이 달라지는 값)
+     * @return 변경이 없으면 true (이 경우 본문을 만들지 말고 null을 반환)
+     */
+    public static boolean notModified(WebRequest request, LocalDateTime lastModified, Object... versionParts) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            HttpServletResponse response = servletRequest.getResponse();
+            if (response != null) response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+
+        long lastModifiedMillis = ItemCheck.isEmpty(lastModified)
+                ? -1
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified(etag(lastModified, versionParts), lastModifiedMillis);
+    }
+
+    /**
+     * 수정일시와 버전 값으로 만든 weak ETag (W/"md5")
+     */
+    public static String etag(LocalDateTime lastModified, Object... versionParts) {
+        StringBuilder sb = new StringBuilder(64).append(lastModified);
+        for (Object part : versionParts) {
+            sb.append('|').append(part);
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,298 @@
+package watch.movie.utility;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * {@link JwtUtil#createJwtToken}이 발급하는 형태(HS256, 중첩 없는 JSON 클래임)의 토큰만 처리하는 전용 검증기
+ * <p>
+ * Header와 Payload를 스레드별 버퍼에 바로 디코딩하고, 스레드별로 재사용하는 {@link Mac}으로 서명을 확인한 뒤
+ * loginId, exp, role 값만 꺼낸다. 범용 Map이나 Claims 객체는 만들지 않는다.
+ * 처리할 수 없는 형태의 토큰이면 null을 반환하며, 이 경우 호출자는 JJWT로 다시 검증해야 한다.
+ */
+final class JwtFastVerifier {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private static final byte[] ALG = ascii("alg");
+    private static final byte[] HS256 = ascii("HS256");
+    private static final byte[] ZIP = ascii("zip");
+    private static final byte[] CRIT = ascii("crit");
+    private static final byte[] LOGIN_ID = ascii("loginId");
+    private static final byte[] ROLE = ascii("role");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] NBF = ascii("nbf");
+
+    private static final int[] BASE64URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final ThreadLocal<Scratch> scratch;
+
+    JwtFastVerifier(Key key) {
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(key));
+    }
+
+    /**
+     * 토큰을 검증하고 필요한 클래임만 반환
+     * @param token compact 형식의 JWT
+     * @return 검증된 값, 이 검증기가 처리할 수 없는 형태라면 null
+     * @throws SignatureException 서명이 일치하지 않는 경우
+     * @throws ExpiredJwtException 만료된 토큰인 경우
+     */
+    JwtPayload verify(String token) {
+        int length = token.length();
+        if (length == 0 || length > MAX_TOKEN_LENGTH) return null;
+
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd <= headerEnd + 1 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+
+        Scratch s = scratch.get();
+        // [0, payloadEnd) : 서명 대상 문자열, [payloadEnd, ...) : 디코딩한 header / payload
+        byte[] buf = s.buffer(payloadEnd * 2);
+
+        int headerLength = decode(token, 0, headerEnd, buf, payloadEnd);
+        if (headerLength < 0 || !parse(buf, payloadEnd, payloadEnd + headerLength, true, s) || !s.hs256) {
+            return null;
+        }
+
+        if (decode(token, payloadEnd + 1, length, s.actual, 0) != SIGNATURE_LENGTH) return null;
+
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) return null;
+            buf[i] = (byte) c;
+        }
+
+        try {
+            s.mac.update(buf, 0, payloadEnd);
+            s.mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+
+        if (!MessageDigest.isEqual(s.expected, s.actual)) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        int payloadLength = decode(token, headerEnd + 1, payloadEnd, buf, payloadEnd);
+        if (payloadLength < 0 || !parse(buf, payloadEnd, payloadEnd + payloadLength, false, s)
+                || s.loginStart < 0 || !s.hasExp) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() > s.exp * 1000L) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + s.exp);
+        }
+
+        String loginId = new String(buf, s.loginStart, s.loginEnd - s.loginStart, StandardCharsets.UTF_8);
+        String role = s.roleStart < 0 ? null : new String(buf, s.roleStart, s.roleEnd - s.roleStart, StandardCharsets.UTF_8);
+        return new JwtPayload(loginId, role, s.exp);
+    }
+
+    /**
+     * Base64url(패딩 없음) 디코딩
+     * @return 디코딩된 byte 수, 올바르지 않은 입력이면 -1
+     */
+    private static int decode(String src, int from, int to, byte[] dst, int offset) {
+        if ((to - from) % 4 == 1 || offset + (to - from) * 3 / 4 > dst.length) return -1;
+
+        int acc = 0;
+        int bits = 0;
+        int out = offset;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) return -1;
+
+            acc = (acc << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                dst[out++] = (byte) (acc >> bits);
+                acc &= (1 << bits) - 1;
+            }
+        }
+        return out - offset;
+    }
+
+    /**
+     * 중첩 없는 JSON 객체를 훑으면서 필요한 필드의 위치만 기록
+     * @return 이 검증기가 처리할 수 있는 형태면 true
+     */
+    private static boolean parse(byte[] b, int from, int end, boolean header, Scratch s) {
+        s.reset();
+        int i = skipWhitespace(b, from, end);
+        if (i >= end || b[i] != '{') return false;
+        i = skipWhitespace(b, i + 1, end);
+        if (i < end && b[i] == '}') return true;
+
+        while (i < end) {
+            if (b[i] != '"') return false;
+            int keyStart = i + 1;
+            int keyEnd = skipString(b, keyStart, end);
+            if (keyEnd < 0) return false;
+
+            i = skipWhitespace(b, keyEnd + 1, end);
+            if (i >= end || b[i] != ':') return false;
+            i = skipWhitespace(b, i + 1, end);
+            if (i >= end) return false;
+
+            int valueStart = i;
+            int valueEnd;
+            boolean string = b[i] == '"';
+            if (string) {
+                valueEnd = skipString(b, i + 1, end);
+                if (valueEnd < 0) return false;
+                i = valueEnd + 1;
+                valueStart++;
+            } else if (b[i] == '{' || b[i] == '[') {
+                return false;
+            } else {
+                valueEnd = skipScalar(b, i, end);
+                i = valueEnd;
+            }
+
+            if (header) {
+                if (matches(b, keyStart, keyEnd, ZIP) || matches(b, keyStart, keyEnd, CRIT)) return false;
+                if (matches(b, keyStart, keyEnd, ALG)) {
+                    s.hs256 = string && matches(b, valueStart, valueEnd, HS256);
+                }
+            } else if (matches(b, keyStart, keyEnd, LOGIN_ID)) {
+                if (!string || hasEscape(b, valueStart, valueEnd)) return false;
+                s.loginStart = valueStart;
+                s.loginEnd = valueEnd;
+            } else if (matches(b, keyStart, keyEnd, ROLE)) {
+                if (!string || hasEscape(b, valueStart, valueEnd)) return false;
+                s.roleStart = valueStart;
+                s.roleEnd = valueEnd;
+            } else if (matches(b, keyStart, keyEnd, EXP)) {
+                if (string || !parseLong(b, valueStart, valueEnd, s)) return false;
+                s.hasExp = true;
+            } else if (matches(b, keyStart, keyEnd, NBF)) {
+                return false;
+            }
+
+            i = skipWhitespace(b, i, end);
+            if (i >= end) return false;
+            if (b[i] == '}') return skipWhitespace(b, i + 1, end) == end;
+            if (b[i] != ',') return false;
+            i = skipWhitespace(b, i + 1, end);
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(byte[] b, int i, int end) {
+        while (i < end && (b[i] == ' ' || b[i] == '\t' || b[i] == '\n' || b[i] == '\r')) i++;
+        return i;
+    }
+
+    /**
+     * @return 닫는 따옴표의 위치, 문자열이 끝나지 않았으면 -1
+     */
+    private static int skipString(byte[] b, int i, int end) {
+        while (i < end) {
+            if (b[i] == '\\') {
+                i += 2;
+            } else if (b[i] == '"') {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipScalar(byte[] b, int i, int end) {
+        while (i < end && b[i] != ',' && b[i] != '}' && b[i] != ' ' && b[i] != '\t' && b[i] != '\n' && b[i] != '\r') i++;
+        return i;
+    }
+
+    private static boolean hasEscape(byte[] b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (b[i] == '\\') return true;
+        }
+        return false;
+    }
+
+    private static boolean matches(byte[] b, int from, int to, byte[] expected) {
+        return Arrays.equals(b, from, to, expected, 0, expected.length);
+    }
+
+    private static boolean parseLong(byte[] b, int from, int to, Scratch s) {
+        if (from >= to || to - from > 12) return false;
+
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            if (b[i] < '0' || b[i] > '9') return false;
+            value = value * 10 + (b[i] - '0');
+        }
+        s.exp = value;
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 스레드별로 재사용하는 Mac과 디코딩 버퍼
+     */
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] actual = new byte[SIGNATURE_LENGTH];
+        private byte[] buf = new byte[1024];
+
+        private boolean hs256;
+        private int loginStart;
+        private int loginEnd;
+        private int roleStart;
+        private int roleEnd;
+        private long exp;
+        private boolean hasExp;
+
+        private Scratch(Key key) {
+            try {
+                this.mac = Mac.getInstance(HMAC_SHA256);
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        }
+
+        private byte[] buffer(int size) {
+            if (buf.length < size) {
+                buf = new byte[Math.max(size, buf.length * 2)];
+            }
+            return buf;
+        }
+
+        private void reset() {
+            hs256 = false;
+            loginStart = loginEnd = -1;
+            roleStart = roleEnd = -1;
+            exp = 0;
+            hasExp = false;
+        }
+    }
+}
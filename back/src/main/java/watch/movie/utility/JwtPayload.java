@@ -0,0 +1,18 @@
+package watch.movie.utility;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검증이 끝난 JWT에서 인가에 필요한 값만 추려낸 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public final class JwtPayload {
+
+    private final String loginId;
+    // 토큰에 role 클래임이 없으면 null
+    private final String role;
+    // 만료시각 (epoch seconds)
+    private final long expiration;
+}
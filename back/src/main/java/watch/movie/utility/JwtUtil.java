@@ -25,14 +25,21 @@ public class JwtUtil {
     @Value("${jwtSecretKey}")
     private String SECRET_KEY;
     private static Key key;
+    private static JwtFastVerifier fastVerifier;
     private static final String JWT_TYPE= "JWT";
     private static final String ALGORITHM = "HS256";
     private static final String LOGIN_ID = "loginId";
     private static final String USERNAME = "username";
+    private static final String ROLE = "role";
 
     @PostConstruct
     public void init() {
-        key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        init(SECRET_KEY);
+    }
+
+    static void init(String secretKey) {
+        key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        fastVerifier = new JwtFastVerifier(key);
     }
 
     // JWT 토큰 생성
@@ -49,23 +56,31 @@ public class JwtUtil {
 
     // JWT 토큰 검증
     public static boolean isValidToken(String token) {
+        return verifyToken(token) != null;
+    }
+
+    /**
+     * 토큰을 한 번만 검증하고 인가에 필요한 값을 반환하는 함수
+     * 발급 형태 그대로의 토큰은 전용 검증기로 처리하고, 그 외의 토큰은 JJWT로 검증한다.
+     * @param token JWT 토큰
+     * @return 검증된 값, 유효하지 않은 토큰이면 null
+     */
+    public static JwtPayload verifyToken(String token) {
         try {
-            Claims claims = getClaimsFormToken(token);
+            JwtPayload payload = parseToken(token);
 
-            log.info("expireTime : " + claims.getExpiration());
-            log.info("loginId : " + claims.get(LOGIN_ID));
-            log.info("username : " + claims.get(USERNAME));
+            log.debug("expireTime : {}, loginId : {}", payload.getExpiration(), payload.getLoginId());
 
-            return true;
+            return payload;
         } catch (ExpiredJwtException expiredJwtException) {
             log.error("Token Expired", expiredJwtException);
-            return false;
+            return null;
         } catch (JwtException jwtException) {
             log.error("Token Tampered", jwtException);
-            return false;
+            return null;
         } catch (NullPointerException npe) {
             log.error("Token is null", npe);
-            return false;
+            return null;
         }
     }
 
@@ -118,12 +133,29 @@ public class JwtUtil {
                 .build().parseClaimsJws(token).getBody();
     }
 
+    /**
+     * 전용 검증기로 먼저 검증하고, 처리할 수 없는 형태라면 JJWT로 검증하는 메서드
+     * @return JwtPayload : 검증된 값
+     */
+    private static JwtPayload parseToken(String token) {
+        JwtPayload payload = fastVerifier.verify(token);
+        if (payload != null) return payload;
+
+        Claims claims = getClaimsFormToken(token);
+        Object loginId = claims.get(LOGIN_ID);
+        Object role = claims.get(ROLE);
+        return new JwtPayload(
+                loginId == null ? null : loginId.toString(),
+                role == null ? null : role.toString(),
+                claims.getExpiration() == null ? 0L : claims.getExpiration().getTime() / 1000L
+        );
+    }
+
     /**
      * 토큰을 기반으로 사용자 정보를 반환받는 메서드
      * @return String : 사용자 아이디
      */
     public static String getUserIdFromToken(String token) {
-        Claims claims = getClaimsFormToken(token);
-        return claims.get(LOGIN_ID).toString();
+        return parseToken(token).getLoginId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package watch.movie.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecode() {
+        LocalDateTime date = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(date, 98765L));
+
+        assertThat(cursor.getDate()).isEqualTo(date);
+        assertThat(cursor.getId()).isEqualTo(98765L);
+    }
+
+    @Test
+    void invalidToken() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode("!!!")).isNull();
+        assertThat(KeysetCursor.decode("bm9zZXBhcmF0b3I")).isNull();
+    }
+
+    @Test
+    void sliceHasNext() {
+        SliceResponse<Integer> slice = SliceResponse.of(List.of(1, 2, 3), 2, String::valueOf);
+
+        assertThat(slice.getContent()).containsExactly(1, 2);
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(slice.getNextCursor()).isEqualTo("2");
+
+        SliceResponse<Integer> last = SliceResponse.of(List.of(1, 2), 2, String::valueOf);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,135 @@
+package watch.movie.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedLoadingCacheTest {
+
+    @Test
+    void concurrentMissLoadsOnce() throws Exception {
+        BoundedLoadingCache<Long, String> cache = new BoundedLoadingCache<>(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L, key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "notice";
+            })));
+            loading.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get(1L, key -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("notice");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        BoundedLoadingCache<Long, Long> cache = new BoundedLoadingCache<>(10, Duration.ofSeconds(10), now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key -> (long) loads.incrementAndGet());
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get(1L, key -> (long) loads.incrementAndGet())).isEqualTo(1L);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get(1L, key -> (long) loads.incrementAndGet())).isEqualTo(2L);
+    }
+
+    @Test
+    void boundedSize() {
+        BoundedLoadingCache<Long, Long> cache = new BoundedLoadingCache<>(100, Duration.ofMinutes(1));
+        for (long i = 0; i < 1000; i++) {
+            cache.get(i, key -> key);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.get(999L, key -> -1L)).isEqualTo(999L);
+    }
+
+    @Test
+    void invalidateDuringLoadIsNotCached() {
+        BoundedLoadingCache<Long, String> cache = new BoundedLoadingCache<>(10, Duration.ofMinutes(1));
+
+        String loaded = cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1L, key -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void computeIfPresentReplacesLoadedValueOnly() {
+        AtomicLong now = new AtomicLong();
+        BoundedLoadingCache<Long, Long> cache = new BoundedLoadingCache<>(10, Duration.ofSeconds(10), now::get);
+
+        // 없는 key는 적재하지 않음
+        cache.computeIfPresent(1L, value -> value + 1);
+        assertThat(cache.size()).isZero();
+
+        cache.get(1L, key -> 10L);
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        cache.computeIfPresent(1L, value -> value + 1);
+        assertThat(cache.get(1L, key -> -1L)).isEqualTo(11L);
+        // 교체해도 만료 시간은 그대로
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get(1L, key -> -1L)).isEqualTo(-1L);
+
+        // 로딩 중이면 이전 값일 수 있으므로 캐시하지 않음
+        Long loaded = cache.get(2L, key -> {
+            cache.computeIfPresent(key, value -> value + 1);
+            return 20L;
+        });
+        assertThat(loaded).isEqualTo(20L);
+        assertThat(cache.get(2L, key -> 21L)).isEqualTo(21L);
+    }
+
+    @Test
+    void nullAndFailureAreNotCached() {
+        BoundedLoadingCache<Long, String> cache = new BoundedLoadingCache<>(10, Duration.ofMinutes(1));
+
+        assertThat(cache.get(1L, key -> null)).isNull();
+        assertThatThrownBy(() -> cache.get(2L, key -> {
+            throw new IllegalStateException("db");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1L, key -> "a")).isEqualTo("a");
+        assertThat(cache.get(2L, key -> "b")).isEqualTo("b");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
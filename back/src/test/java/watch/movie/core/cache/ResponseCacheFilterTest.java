@@ -0,0 +1,133 @@
+package watch.movie.core.cache;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "[" + "{\"title\":\"공지사항\"},".repeat(50) + "{}]";
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(List.of("/notices"), 10, 60);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void servesCachedBytes() throws Exception {
+        MockHttpServletResponse first = get("/notices", null);
+        MockHttpServletResponse second = get("/notices", null);
+
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(second.getHeader("ETag")).isEqualTo(first.getHeader("ETag"));
+    }
+
+    @Test
+    void gzipAndNotModified() throws Exception {
+        get("/notices", null);
+
+        MockHttpServletRequest request = request("/notices");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse gzip = new MockHttpServletResponse();
+        filter.doFilter(request, gzip, this::render);
+
+        assertThat(gzip.getHeader("Content-Encoding")).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+
+        MockHttpServletResponse notModified = get("/notices", "W/\"v1\"");
+        assertThat(notModified.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+        assertThat(renders.get()).isEqualTo(1);
+    }
+
+    @Test
+    void varyIsSetOnMissAndHit() throws Exception {
+        MockHttpServletResponse miss = get("/notices", null);
+        MockHttpServletResponse hit = get("/notices", null);
+        MockHttpServletResponse notModified = get("/notices", "W/\"v1\"");
+
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(miss.getHeaders("Vary")).containsExactly("Accept-Encoding");
+        assertThat(hit.getHeaders("Vary")).containsExactly("Accept-Encoding");
+        assertThat(notModified.getHeaders("Vary")).containsExactly("Accept-Encoding");
+    }
+
+    @Test
+    void gzipOnlyWhenQualityIsPositive() throws Exception {
+        get("/notices", null);
+
+        assertThat(withEncoding("gzip;q=0").getHeader("Content-Encoding")).isNull();
+        assertThat(withEncoding("deflate, GZIP ; Q=0.000").getHeader("Content-Encoding")).isNull();
+        assertThat(withEncoding("*, gzip;q=0").getHeader("Content-Encoding")).isNull();
+        assertThat(withEncoding("identity").getHeader("Content-Encoding")).isNull();
+        assertThat(withEncoding("gzip;q=0.5, deflate").getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(withEncoding("*;q=0.1").getHeader("Content-Encoding")).isEqualTo("gzip");
+
+        MockHttpServletResponse identity = withEncoding("gzip;q=0");
+        assertThat(identity.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(renders.get()).isEqualTo(1);
+    }
+
+    @Test
+    void keyedByParametersAndInvalidated() throws Exception {
+        get("/notices", null);
+        MockHttpServletRequest page = request("/notices");
+        page.addParameter("page", "1");
+        filter.doFilter(page, new MockHttpServletResponse(), this::render);
+        assertThat(renders.get()).isEqualTo(2);
+
+        filter.invalidate("/notices");
+        get("/notices", null);
+        assertThat(renders.get()).isEqualTo(3);
+    }
+
+    @Test
+    void otherPathsPassThrough() throws Exception {
+        get("/notice/1", null);
+        get("/notice/1", null);
+
+        assertThat(renders.get()).isEqualTo(2);
+    }
+
+    private MockHttpServletResponse get(String path, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = request(path);
+        if (ifNoneMatch != null) request.addHeader("If-None-Match", ifNoneMatch);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, this::render);
+        return response;
+    }
+
+    private MockHttpServletResponse withEncoding(String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = request("/notices");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, this::render);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private void render(ServletRequest request, ServletResponse response) throws IOException {
+        renders.incrementAndGet();
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(HttpServletResponse.SC_OK);
+        http.setHeader("ETag", "W/\"v1\"");
+        http.setContentType("application/json;charset=UTF-8");
+        http.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+    }
+}
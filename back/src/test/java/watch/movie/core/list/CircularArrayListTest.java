@@ -0,0 +1,126 @@
+package watch.movie.core.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircularArrayListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(42);
+        CircularArrayList<Integer> list = new CircularArrayList<>(2);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(9)) {
+                case 0 -> { list.addFirst(value); expected.add(0, value); }
+                case 1 -> { list.addLast(value); expected.add(value); }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                }
+                case 4 -> assertThat(list.pollFirst()).isEqualTo(expected.isEmpty() ? null : expected.remove(0));
+                case 5 -> assertThat(list.pollLast()).isEqualTo(expected.isEmpty() ? null : expected.remove(expected.size() - 1));
+                case 6 -> {
+                    int distance = random.nextInt(41) - 20;
+                    list.rotate(distance);
+                    Collections.rotate(expected, distance);
+                }
+                case 7 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.set(index, value)).isEqualTo(expected.set(index, value));
+                }
+                default -> assertThat(list.removeFirstOccurrence(value)).isEqualTo(expected.remove((Integer) value));
+            }
+            assertThat(list.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+        assertThat(list.toArray()).containsExactly(expected.toArray());
+        assertThat(list).isEqualTo(expected);
+        assertThat(list.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void rotateWhenFullMovesHeadOnly() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15));
+
+        list.rotate(3);
+        assertThat(list.subList(0, 4)).containsExactly(13, 14, 15, 0);
+        list.rotate(-5);
+        assertThat(list.subList(0, 4)).containsExactly(2, 3, 4, 5);
+        assertThat(list.getLast()).isEqualTo(1);
+    }
+
+    @Test
+    void worksAsDeque() {
+        Deque<String> deque = new CircularArrayList<>();
+        deque.push("b");
+        deque.push("a");
+        deque.offer("c");
+
+        assertThat(deque.peekFirst()).isEqualTo("a");
+        assertThat(deque.peekLast()).isEqualTo("c");
+
+        List<String> descending = new ArrayList<>();
+        deque.descendingIterator().forEachRemaining(descending::add);
+        assertThat(descending).containsExactly("c", "b", "a");
+
+        assertThat(deque.pop()).isEqualTo("a");
+        assertThat(deque.poll()).isEqualTo("b");
+        assertThat(deque.removeLast()).isEqualTo("c");
+        assertThat(deque.poll()).isNull();
+        assertThatThrownBy(deque::removeFirst).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iteratorsAreFailFast() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(List.of(1, 2, 3));
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.addFirst(0);
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+
+        Iterator<Integer> descending = list.descendingIterator();
+        descending.next();
+        list.rotate(1);
+        assertThatThrownBy(descending::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iteratorRemoveKeepsIterating() {
+        CircularArrayList<Integer> list = new CircularArrayList<>();
+        for (int i = 0; i < 10; i++) list.addFirst(i);
+
+        list.removeIf(value -> value % 2 == 0);
+        assertThat(list).containsExactly(9, 7, 5, 3, 1);
+
+        ListIterator<Integer> iterator = list.listIterator(2);
+        iterator.add(6);
+        iterator.next();
+        iterator.set(50);
+        assertThat(list).containsExactly(9, 7, 6, 50, 3, 1);
+    }
+
+    @Test
+    void rejectsOutOfRangeIndex() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(List.of(1));
+
+        assertThatThrownBy(() -> list.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.add(3, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.remove(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package watch.movie.core.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndexableSkipListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(42);
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 30_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(8)) {
+                case 0, 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> { list.add(value); expected.add(value); }
+                case 3, 4 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                }
+                case 5 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.set(index, value)).isEqualTo(expected.set(index, value));
+                }
+                case 6 -> assertThat(list.removeItem(value)).isEqualTo(expected.remove((Integer) value));
+                default -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.get(index)).isEqualTo(expected.get(index));
+                    assertThat(list.lastIndexOf(value)).isEqualTo(expected.lastIndexOf(value));
+                }
+            }
+            assertThat(list.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+        }
+        assertThat(list).isEqualTo(expected);
+        assertThat(list.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void listIteratorMatchesArrayList() {
+        Random random = new Random(7);
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        ListIterator<Integer> actualIterator = list.listIterator(250);
+        ListIterator<Integer> expectedIterator = expected.listIterator(250);
+        for (int step = 0; step < 20_000; step++) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    if (!expectedIterator.hasNext()) break;
+                    assertThat(actualIterator.next()).isEqualTo(expectedIterator.next());
+                    if (random.nextBoolean()) {
+                        actualIterator.remove();
+                        expectedIterator.remove();
+                    }
+                }
+                case 1 -> {
+                    if (!expectedIterator.hasPrevious()) break;
+                    assertThat(actualIterator.previous()).isEqualTo(expectedIterator.previous());
+                    if (random.nextBoolean()) {
+                        actualIterator.remove();
+                        expectedIterator.remove();
+                    } else {
+                        actualIterator.set(-step);
+                        expectedIterator.set(-step);
+                    }
+                }
+                case 2 -> {
+                    actualIterator.add(step);
+                    expectedIterator.add(step);
+                }
+                default -> {
+                    if (!expectedIterator.hasNext()) break;
+                    assertThat(actualIterator.next()).isEqualTo(expectedIterator.next());
+                }
+            }
+            assertThat(actualIterator.nextIndex()).isEqualTo(expectedIterator.nextIndex());
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void keepsIndexesAfterEmptyingAndRefilling() {
+        IndexableSkipList<Integer> list = new IndexableSkipList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+        while (!list.isEmpty()) {
+            list.remove(list.size() - 1);
+        }
+        assertThat(list.listIterator(0).hasNext()).isFalse();
+
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+        }
+        assertThat(list.get(0)).isEqualTo(99);
+        assertThat(list.get(99)).isZero();
+        assertThat(list.listIterator(100).previous()).isZero();
+
+        list.clear();
+        assertThat(list).isEmpty();
+        list.add(1);
+        assertThat(list).containsExactly(1);
+    }
+
+    @Test
+    void iteratorFailsFastOnConcurrentModification() {
+        IndexableSkipList<String> list = new IndexableSkipList<>(List.of("a", "b", "c"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.remove(2);
+
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(() -> list.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.add(3, "d")).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
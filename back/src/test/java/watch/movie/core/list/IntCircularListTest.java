@@ -0,0 +1,130 @@
+package watch.movie.core.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntCircularListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(11);
+        IntCircularList list = new IntCircularList(2);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(10)) {
+                case 0 -> { list.addFirst(value); expected.add(0, value); }
+                case 1 -> { list.addLast(value); expected.add(value); }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.removeAt(index)).isEqualTo(expected.remove(index));
+                }
+                case 4 -> {
+                    if (expected.isEmpty()) break;
+                    assertThat(list.removeFirst()).isEqualTo(expected.remove(0));
+                }
+                case 5 -> {
+                    int distance = random.nextInt(41) - 20;
+                    list.rotate(distance);
+                    Collections.rotate(expected, distance);
+                }
+                case 6 -> assertThat(list.removeValue(value)).isEqualTo(expected.remove((Integer) value));
+                case 7 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.set(index, value)).isEqualTo(expected.set(index, value));
+                }
+                case 8 -> {
+                    assertThat(list.indexOf(value)).isEqualTo(expected.indexOf(value));
+                    assertThat(list.contains(value)).isEqualTo(expected.contains(value));
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.get(index)).isEqualTo(expected.get(index));
+                }
+                default -> {
+                    if (expected.isEmpty()) break;
+                    assertThat(list.removeLast()).isEqualTo(expected.remove(expected.size() - 1));
+                }
+            }
+            assertThat(list.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(list.toArray()).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        assertThat(list.stream().sum()).isEqualTo(expected.stream().mapToInt(Integer::intValue).sum());
+        assertThat(list.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void iteratorRemovesAndFailsFast() {
+        IntCircularList list = IntCircularList.of(1, 2, 3, 4, 5);
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.nextInt() % 2 == 0) iterator.remove();
+        }
+        assertThat(list).isEqualTo(IntCircularList.of(1, 3, 5));
+        assertThatThrownBy(iterator::nextInt).isInstanceOf(NoSuchElementException.class);
+
+        PrimitiveIterator.OfInt removeTwice = list.iterator();
+        removeTwice.nextInt();
+        removeTwice.remove();
+        assertThatThrownBy(removeTwice::remove).isInstanceOf(IllegalStateException.class);
+
+        PrimitiveIterator.OfInt stale = list.iterator();
+        stale.nextInt();
+        list.addFirst(0);
+        assertThatThrownBy(stale::nextInt).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(stale::remove).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(() -> list.forEach(value -> list.add(value))).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iteratorVisitsInOrderAcrossWrapAround() {
+        IntCircularList list = new IntCircularList(8);
+        for (int i = 0; i < 8; i++) list.addLast(i);
+        // head를 배열 중간으로 옮겨서 값이 배열 끝을 넘어가게 함
+        for (int i = 0; i < 5; i++) list.addLast(list.removeFirst());
+
+        List<Integer> visited = new ArrayList<>();
+        list.iterator().forEachRemaining((int value) -> visited.add(value));
+        assertThat(visited).containsExactly(5, 6, 7, 0, 1, 2, 3, 4);
+        assertThat(list.toString()).isEqualTo("[5, 6, 7, 0, 1, 2, 3, 4]");
+    }
+
+    @Test
+    void worksAsRotationQueue() {
+        IntCircularList queue = new IntCircularList();
+        for (int i = 0; i < 100; i++) queue.addLast(i);
+
+        // 앞에서 꺼내 뒤로 보내기를 반복해도 크기가 유지되고 순서가 돈다
+        for (int i = 0; i < 250; i++) queue.addLast(queue.removeFirst());
+        assertThat(queue.size()).isEqualTo(100);
+        assertThat(queue.getFirst()).isEqualTo(50);
+        assertThat(queue.get(99)).isEqualTo(49);
+
+        queue.rotate(-50);
+        assertThat(queue.toArray()).startsWith(0, 1, 2);
+        assertThat(queue.indexOf(42)).isEqualTo(42);
+    }
+
+    @Test
+    void rejectsEmptyAndOutOfRangeAccess() {
+        IntCircularList list = IntCircularList.of(1);
+
+        assertThatThrownBy(() -> list.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        list.clear();
+        assertThatThrownBy(list::removeFirst).isInstanceOf(NoSuchElementException.class);
+        assertThat(list.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+package watch.movie.core.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongCircularListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(7);
+        LongCircularList list = new LongCircularList(2);
+        List<Long> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            long value = random.nextInt(100);
+            switch (random.nextInt(8)) {
+                case 0 -> { list.addFirst(value); expected.add(0, value); }
+                case 1 -> { list.addLast(value); expected.add(value); }
+                case 2 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 3 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.removeAt(index)).isEqualTo(expected.remove(index));
+                }
+                case 4 -> {
+                    if (expected.isEmpty()) break;
+                    assertThat(list.removeFirst()).isEqualTo(expected.remove(0));
+                }
+                case 5 -> {
+                    int distance = random.nextInt(41) - 20;
+                    list.rotate(distance);
+                    Collections.rotate(expected, distance);
+                }
+                case 6 -> assertThat(list.removeValue(value)).isEqualTo(expected.remove(value));
+                default -> {
+                    if (expected.isEmpty()) break;
+                    assertThat(list.removeLast()).isEqualTo(expected.remove(expected.size() - 1));
+                }
+            }
+            assertThat(list.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(list.toArray()).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+        assertThat(list.stream().sum()).isEqualTo(expected.stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void iteratorRemovesAndFailsFast() {
+        LongCircularList list = LongCircularList.of(1, 2, 3, 4, 5);
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.nextLong() % 2 == 0) iterator.remove();
+        }
+        assertThat(list).isEqualTo(LongCircularList.of(1, 3, 5));
+
+        PrimitiveIterator.OfLong stale = list.iterator();
+        stale.nextLong();
+        list.addFirst(0);
+        assertThatThrownBy(stale::nextLong).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(() -> list.forEach(value -> list.add(value))).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void forEachVisitsInOrderAfterRotation() {
+        LongCircularList list = LongCircularList.of(10, 20, 30);
+        list.rotate(1);
+
+        StringBuilder visited = new StringBuilder();
+        list.forEach(value -> visited.append(value).append(' '));
+        assertThat(visited.toString()).isEqualTo("30 10 20 ");
+        assertThat(list.toString()).isEqualTo("[30, 10, 20]");
+        assertThat(list.getFirst()).isEqualTo(30);
+        assertThat(list.getLast()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,178 @@
+package watch.movie.core.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpmcCircularQueueTest {
+
+    @Test
+    void boundedFifo() {
+        MpmcCircularQueue<Integer> queue = new MpmcCircularQueue<>(3);
+        assertThat(queue.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) assertThat(queue.offer(i)).isTrue();
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.remainingCapacity()).isZero();
+        assertThat(queue).containsExactly(0, 1, 2, 3);
+
+        assertThat(queue.peek()).isEqualTo(0);
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.offer(4)).isTrue();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(queue.drainTo(drained)).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void everyValueIsConsumedExactlyOnce() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+        MpmcCircularQueue<Integer> queue = new MpmcCircularQueue<>(64);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) queue.put(base + i);
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < total / consumers; i++) seen.incrementAndGet(queue.take());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertThat(seen.get(i)).as("value %d", i).isEqualTo(1);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeSkipsValueForConsumers() {
+        MpmcCircularQueue<String> queue = new MpmcCircularQueue<>(4);
+        queue.addAll(List.of("a", "b", "c", "b"));
+
+        assertThat(queue.remove("b")).isTrue();
+        assertThat(queue.remove("x")).isFalse();
+        assertThat(queue.remove(null)).isFalse();
+        assertThat(queue).containsExactly("a", "c", "b");
+        assertThat(queue.contains("b")).isTrue();
+
+        // 맨 앞을 지우면 peek / poll도 건너뜀
+        assertThat(queue.remove("a")).isTrue();
+        assertThat(queue.peek()).isEqualTo("c");
+
+        Iterator<String> iterator = queue.iterator();
+        assertThat(iterator.next()).isEqualTo("c");
+        iterator.remove();
+        assertThatThrownBy(iterator::remove).isInstanceOf(IllegalStateException.class);
+        assertThat(queue.removeAll(List.of("b"))).isTrue();
+
+        assertThat(queue.peek()).isNull();
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+        // 삭제 표시한 칸은 소비자가 지나간 뒤 다시 사용
+        for (int i = 0; i < 4; i++) assertThat(queue.offer("d" + i)).isTrue();
+        assertThat(queue).containsExactly("d0", "d1", "d2", "d3");
+    }
+
+    @Test
+    void removedValuesAreNeverConsumed() throws Exception {
+        int producers = 2;
+        int consumers = 2;
+        int removers = 2;
+        int perProducer = 20_000;
+        int total = producers * perProducer;
+        MpmcCircularQueue<Integer> queue = new MpmcCircularQueue<>(64);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger done = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers + removers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) queue.put(base + i);
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    while (done.get() < total) {
+                        Integer value = queue.poll(1, TimeUnit.MILLISECONDS);
+                        if (value != null) {
+                            seen.incrementAndGet(value);
+                            done.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < removers; r++) {
+                int seed = r;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    while (done.get() < total) {
+                        int value = random.nextInt(total);
+                        if (queue.remove(value)) {
+                            seen.incrementAndGet(value);
+                            done.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) future.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 꺼내거나 삭제한 값이 정확히 한 번씩
+        for (int i = 0; i < total; i++) {
+            assertThat(seen.get(i)).as("value %d", i).isEqualTo(1);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void timedOperationsGiveUp() throws Exception {
+        MpmcCircularQueue<String> queue = new MpmcCircularQueue<>(2);
+
+        assertThat(queue.poll(5, TimeUnit.MILLISECONDS)).isNull();
+        queue.put("a");
+        queue.put("b");
+        assertThat(queue.offer("c", 5, TimeUnit.MILLISECONDS)).isFalse();
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> queue.put("c")).isInstanceOf(InterruptedException.class);
+    }
+}
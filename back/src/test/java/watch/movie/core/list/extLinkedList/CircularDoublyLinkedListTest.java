@@ -0,0 +1,122 @@
+package watch.movie.core.list.extLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircularDoublyLinkedListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(42);
+        CircularDoublyLinkedList<Integer> list = new CircularDoublyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(7)) {
+                case 0 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 1 -> { list.add(value); expected.add(value); }
+                case 2 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                }
+                case 3 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.set(index, value)).isEqualTo(value);
+                    expected.set(index, value);
+                }
+                case 4 -> {
+                    if (!expected.contains(value)) break;
+                    list.removeItem(value);
+                    expected.remove((Integer) value);
+                }
+                default -> {
+                    // 차례대로 접근해 finger를 움직임
+                    int from = random.nextInt(expected.size() + 1);
+                    for (int i = from; i < Math.min(expected.size(), from + 5); i++) {
+                        assertThat(list.get(i)).isEqualTo(expected.get(i));
+                    }
+                }
+            }
+            assertThat(list.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    void listIteratorMatchesArrayList() {
+        Random random = new Random(7);
+        CircularDoublyLinkedList<Integer> list = new CircularDoublyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        ListIterator<Integer> actualIterator = list.listIterator(100);
+        ListIterator<Integer> expectedIterator = expected.listIterator(100);
+        for (int step = 0; step < 5_000; step++) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    if (!expectedIterator.hasNext()) break;
+                    assertThat(actualIterator.next()).isEqualTo(expectedIterator.next());
+                    if (random.nextBoolean()) {
+                        actualIterator.remove();
+                        expectedIterator.remove();
+                    }
+                }
+                case 1 -> {
+                    if (!expectedIterator.hasPrevious()) break;
+                    assertThat(actualIterator.previous()).isEqualTo(expectedIterator.previous());
+                    if (random.nextBoolean()) {
+                        actualIterator.remove();
+                        expectedIterator.remove();
+                    } else {
+                        actualIterator.set(-step);
+                        expectedIterator.set(-step);
+                    }
+                }
+                default -> {
+                    actualIterator.add(step);
+                    expectedIterator.add(step);
+                }
+            }
+            assertThat(actualIterator.nextIndex()).isEqualTo(expectedIterator.nextIndex());
+        }
+        assertThat(list).containsExactlyElementsOf(expected);
+
+        list.addAll(1, List.of(-1, -2));
+        expected.addAll(1, List.of(-1, -2));
+        assertThat(list.subList(0, 4)).containsExactlyElementsOf(expected.subList(0, 4));
+        assertThat(list).containsExactlyElementsOf(expected);
+        list.add(-3);
+        expected.add(-3);
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void iteratorFailsFastOnConcurrentModification() {
+        CircularDoublyLinkedList<String> list = new CircularDoublyLinkedList<>();
+        list.add("a");
+        list.add("b");
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.remove(1);
+
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+}
@@ -0,0 +1,209 @@
+package watch.movie.core.list.extLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnrolledCircularLinkedListTest {
+
+    @Test
+    void matchesArrayListUnderRandomOperations() {
+        Random random = new Random(42);
+        UnrolledCircularLinkedList<Integer> list = new UnrolledCircularLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 30_000; step++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(8)) {
+                case 0, 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> { list.add(value); expected.add(value); }
+                case 3, 4 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                }
+                case 5 -> {
+                    if (expected.isEmpty()) break;
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.set(index, value)).isEqualTo(expected.set(index, value));
+                }
+                case 6 -> assertThat(list.removeItem(value)).isEqualTo(expected.remove((Integer) value));
+                default -> {
+                    assertThat(list.indexOf(value)).isEqualTo(expected.indexOf(value));
+                    assertThat(list.lastIndexOf(value)).isEqualTo(expected.lastIndexOf(value));
+                }
+            }
+            assertThat(list.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+        }
+        assertThat(list).isEqualTo(expected);
+        assertThat(list.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void listIteratorMatchesArrayList() {
+        Random random = new Random(7);
+        UnrolledCircularLinkedList<Integer> list = new UnrolledCircularLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+
+        ListIterator<Integer> actualIterator = list.listIterator(250);
+        ListIterator<Integer> expectedIterator = expected.listIterator(250);
+        for (int step = 0; step < 20_000; step++) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    if (!expectedIterator.hasNext()) break;
+                    assertThat(actualIterator.next()).isEqualTo(expectedIterator.next());
+                    if (random.nextBoolean()) {
+                        actualIterator.remove();
+                        expectedIterator.remove();
+                    }
+                }
+                case 1 -> {
+                    if (!expectedIterator.hasPrevious()) break;
+                    assertThat(actualIterator.previous()).isEqualTo(expectedIterator.previous());
+                    actualIterator.set(-step);
+                    expectedIterator.set(-step);
+                }
+                case 2 -> {
+                    actualIterator.add(step);
+                    expectedIterator.add(step);
+                }
+                default -> {
+                    if (!expectedIterator.hasNext()) break;
+                    assertThat(actualIterator.next()).isEqualTo(expectedIterator.next());
+                }
+            }
+            assertThat(actualIterator.nextIndex()).isEqualTo(expectedIterator.nextIndex());
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void splitsAndMergesChunks() {
+        UnrolledCircularLinkedList<Integer> list = new UnrolledCircularLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(0, i);
+        }
+        // 앞에 계속 추가하면 나뉜 노드가 절반씩 채워짐
+        assertThat(list.chunkCount()).isBetween(1000 / UnrolledCircularLinkedList.CHUNK_SIZE, 1000 / (UnrolledCircularLinkedList.CHUNK_SIZE / 2) + 1);
+
+        while (list.size() > 10) {
+            list.remove(list.size() / 2);
+        }
+        assertThat(list.chunkCount()).isLessThanOrEqualTo(2);
+        assertThat(list).containsExactly(999, 998, 997, 996, 995, 4, 3, 2, 1, 0);
+
+        list.clear();
+        assertThat(list).isEmpty();
+        assertThat(list.chunkCount()).isZero();
+        list.add(1);
+        assertThat(list.listIterator(1).previous()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsMinimumFillAfterRandomRemovals() {
+        Random random = new Random(3);
+        UnrolledCircularLinkedList<Integer> list = new UnrolledCircularLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            list.add(index, i);
+            expected.add(index, i);
+        }
+
+        for (int step = 0; list.size() > 1; step++) {
+            int index = random.nextInt(expected.size());
+            assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            // 가끔 추가해서 나뉜 노드도 섞이게 함
+            if (step % 7 == 0) {
+                index = random.nextInt(expected.size() + 1);
+                list.add(index, -step);
+                expected.add(index, -step);
+            }
+            if (step % 97 == 0) assertMinimumFill(list);
+        }
+        assertMinimumFill(list);
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+
+    /**
+     * 마지막 노드를 제외하면 MIN_FILL개 이상, 노드 수는 size / MIN_FILL + 1 이하
+     */
+    private static void assertMinimumFill(UnrolledCircularLinkedList<?> list) {
+        int[] fills = list.chunkFills();
+        for (int i = 0; i < fills.length - 1; i++) {
+            assertThat(fills[i]).isBetween(UnrolledCircularLinkedList.MIN_FILL, UnrolledCircularLinkedList.CHUNK_SIZE);
+        }
+        assertThat(Arrays.stream(fills).sum()).isEqualTo(list.size());
+        assertThat(fills.length).isLessThanOrEqualTo(list.size() / UnrolledCircularLinkedList.MIN_FILL + 1);
+    }
+
+    @Test
+    void iteratorFailsFastOnConcurrentModification() {
+        UnrolledCircularLinkedList<String> list = new UnrolledCircularLinkedList<>(List.of("a", "b", "c"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.add("d");
+
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(() -> list.get(4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.listIterator(5)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void allowsNullElements() {
+        UnrolledCircularLinkedList<String> list = new UnrolledCircularLinkedList<>();
+        list.add("a");
+        list.add(null);
+
+        assertThat(list.indexOf(null)).isEqualTo(1);
+        assertThat(list.removeItem(null)).isTrue();
+        assertThat(list).containsExactly("a");
+    }
+
+    @Test
+    void concurrentGetsReturnTheirOwnElements() throws Exception {
+        UnrolledCircularLinkedList<Integer> list = new UnrolledCircularLinkedList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+
+        // 읽기만 하면 공유 상태를 쓰지 않으므로 다른 스레드의 조회가 결과에 섞이지 않음
+        int threads = 4;
+        List<Thread> readers = new ArrayList<>();
+        List<Integer> mismatches = Collections.synchronizedList(new ArrayList<>());
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            Thread reader = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int step = 0; step < 200_000; step++) {
+                    int index = random.nextInt(list.size());
+                    if (list.get(index) != index) mismatches.add(index);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertThat(mismatches).isEmpty();
+    }
+}
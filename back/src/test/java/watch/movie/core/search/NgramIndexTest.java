@@ -0,0 +1,130 @@
+package watch.movie.core.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    private static String[] title(String query) {
+        return new String[]{query, null};
+    }
+
+    @Test
+    void findsHangulByBigramAndTrigram() {
+        NgramIndex index = new NgramIndex(3, 1);
+        index.put(1, 1, "서버 점검 공지", "오늘 밤 점검합니다");
+        index.put(2, 2, "이벤트 안내", "공지사항을 확인해주세요");
+        index.put(3, 3, "Server Update", "신규 기능");
+
+        // 2글자 bigram
+        assertThat(index.search(title("공지"), 0, 10)).containsExactly(1L);
+        assertThat(index.search(new String[]{null, "공지"}, 0, 10)).containsExactly(2L);
+        // 3글자 trigram, 대소문자 구분 없음, 앞뒤 공백 제거
+        assertThat(index.search(new String[]{null, "공지사"}, 0, 10)).containsExactly(2L);
+        assertThat(index.search(title(" sERVER "), 0, 10)).containsExactly(3L);
+        assertThat(index.search(title("없는말"), 0, 10)).isEmpty();
+        assertThat(NgramIndex.isSearchable("공")).isFalse();
+        assertThat(NgramIndex.isSearchable(" 공 ")).isFalse();
+    }
+
+    @Test
+    void longQueriesReturnCandidatesToVerify() {
+        NgramIndex index = new NgramIndex(1);
+        // "가나다"와 "나다라"가 모두 있지만 "가나다라"는 없음
+        index.put(1, 1, "가나다 그리고 나다라");
+        index.put(2, 2, "가나다라마");
+
+        // 원문이 없으므로 n-gram이 떨어진 문서도 후보로 나오고, 호출하는 쪽에서 확인
+        assertThat(NgramIndex.needsVerification("가나다라")).isTrue();
+        assertThat(index.search(new String[]{"가나다라"}, 0, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(NgramIndex.needsVerification("가나다")).isFalse();
+        assertThat(NgramIndex.needsVerification(" 가나 ")).isFalse();
+        assertThat(index.search(new String[]{"가나다"}, 0, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search(new String[]{"라마"}, 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void ranksByWeightedFrequencyThenOrderAndId() {
+        NgramIndex index = new NgramIndex(3, 1);
+        index.put(1, 10, "점검", "없음");
+        index.put(2, 20, "안내", "점검");
+        index.put(3, 10, "안내", "점검");
+        index.put(4, 10, "안내", "점검");
+        // 예전 공지사항을 수정해서 다시 색인해도 순서는 그대로
+        index.put(2, 20, "안내 수정", "점검");
+
+        // 제목 가중치가 크고, 점수가 같으면 정렬 값, id 내림차순
+        assertThat(index.search(new String[]{"점검", null}, 0, 10)).containsExactly(1L);
+        assertThat(index.search(new String[]{null, "점검"}, 0, 10)).containsExactly(2L, 4L, 3L);
+        assertThat(index.search(new String[]{null, "점검"}, 1, 10)).containsExactly(4L, 3L);
+        index.put(3, 10, "안내", "점검 완료");
+        assertThat(index.search(new String[]{null, "점검"}, 0, 10)).containsExactly(2L, 4L, 3L);
+    }
+
+    @Test
+    void searchBeforePagesByOrderThenId() {
+        NgramIndex index = new NgramIndex(3, 1);
+        index.put(1, 10, "점검 점검 점검", "");
+        index.put(2, 30, "안내", "점검");
+        index.put(3, 20, "안내", "점검");
+        index.put(4, 20, "안내", "점검");
+        index.put(5, 40, "안내", "없음");
+
+        // 점수와 상관없이 정렬 값, id 내림차순
+        String[] content = {null, "점검"};
+        String[] any = {"점검", null};
+        assertThat(index.searchBefore(content, Long.MAX_VALUE, Long.MAX_VALUE, 10)).containsExactly(2L, 4L, 3L);
+        assertThat(index.searchBefore(content, Long.MAX_VALUE, Long.MAX_VALUE, 2)).containsExactly(2L, 4L);
+        assertThat(index.searchBefore(content, 20, 4, 2)).containsExactly(3L);
+        assertThat(index.searchBefore(content, 20, 3, 2)).isEmpty();
+        assertThat(index.searchBefore(any, 30, 2, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void rePutReplacesDocument() {
+        NgramIndex index = new NgramIndex(1);
+        index.put(1, 1, "처음 제목");
+        index.put(1, 1, "바뀐 제목");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(new String[]{"처음"}, 0, 10)).isEmpty();
+        assertThat(index.search(new String[]{"바뀐"}, 0, 10)).containsExactly(1L);
+        assertThat(index.search(new String[]{"제목"}, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void removeHidesDocument() {
+        NgramIndex index = new NgramIndex(1);
+        index.put(1, 1, "공지 하나");
+        index.put(2, 2, "공지 둘");
+
+        assertThat(index.remove(1)).isTrue();
+        assertThat(index.remove(1)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(new String[]{"공지"}, 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void searchStaysCorrectAfterCompaction() {
+        NgramIndex index = new NgramIndex(1);
+        for (long id = 0; id < 3000; id++) {
+            index.put(id, id, (id % 2 == 0 ? "짝수 공지 " : "홀수 공지 ") + id);
+        }
+        // 삭제된 문서가 살아있는 문서보다 많아지면 압축
+        for (long id = 0; id < 2500; id++) {
+            index.remove(id);
+        }
+        index.put(2999, 2999, "짝수 공지 변경");
+
+        assertThat(index.size()).isEqualTo(500);
+        List<Long> even = index.search(new String[]{"짝수 공지"}, 0, 1000);
+        assertThat(even).hasSize(251).contains(2500L, 2998L, 2999L).doesNotContain(2498L);
+        assertThat(index.search(new String[]{"777"}, 0, 10)).containsExactly(2777L);
+        assertThat(index.search(new String[]{"177"}, 0, 10)).isEmpty();
+        // 압축 후에도 정렬 값 유지
+        assertThat(index.searchBefore(new String[]{"짝수 공지"}, 2600, 2600, 2)).containsExactly(2598L, 2596L);
+    }
+}
@@ -0,0 +1,62 @@
+package watch.movie.core.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingListTest {
+
+    @Test
+    void varIntRoundTrip() {
+        // 1 ~ 5 byte로 저장되는 경계값
+        int[] docs = {0, 1, 128, 129, 16_512, 2_113_664, 270_549_120, Integer.MAX_VALUE};
+        int[] frequencies = {1, 127, 128, 16_383, 16_384, 2_097_152, 268_435_456, Integer.MAX_VALUE};
+        PostingList list = new PostingList();
+        for (int i = 0; i < docs.length; i++) {
+            list.add(docs[i], frequencies[i]);
+        }
+
+        PostingList.Cursor cursor = list.cursor();
+        for (int i = 0; i < docs.length; i++) {
+            assertThat(cursor.next()).isTrue();
+            assertThat(cursor.doc()).isEqualTo(docs[i]);
+            assertThat(cursor.frequency()).isEqualTo(frequencies[i]);
+        }
+        assertThat(cursor.next()).isFalse();
+        assertThat(list.count()).isEqualTo(docs.length);
+        assertThat(list.lastDoc()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void docsMustIncrease() {
+        PostingList list = new PostingList();
+        list.add(5, 1);
+
+        assertThatThrownBy(() -> list.add(5, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> list.add(3, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compactDropsDeadDocsAndRenumbers() {
+        PostingList list = new PostingList();
+        for (int doc = 0; doc < 10; doc++) {
+            list.add(doc, doc + 1);
+        }
+        int[] remap = {-1, 0, -1, 1, -1, 2, -1, 3, -1, 4};
+
+        PostingList compacted = list.compact(remap);
+
+        List<int[]> entries = new ArrayList<>();
+        PostingList.Cursor cursor = compacted.cursor();
+        while (cursor.next()) {
+            entries.add(new int[]{cursor.doc(), cursor.frequency()});
+        }
+        assertThat(entries).containsExactly(
+                new int[]{0, 2}, new int[]{1, 4}, new int[]{2, 6}, new int[]{3, 8}, new int[]{4, 10});
+        assertThat(compacted.count()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,54 @@
+package watch.movie.domain.member.service;
+
+import org.junit.jupiter.api.Test;
+import watch.movie.base.RoleCode;
+import watch.movie.domain.member.dto.MemberSummaryDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberExportWriterTest {
+
+    private final MemberSummaryDto plain =
+            new MemberSummaryDto("user1", "홍길동", "19900101", RoleCode.ADULT, LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+    private final MemberSummaryDto tricky =
+            new MemberSummaryDto("user2", "=cmd,\"x\"", null, null, null);
+
+    @Test
+    void csvQuotesAndNeutralizesFormulas() throws IOException {
+        String csv = export(MemberExportWriter.Format.CSV);
+
+        assertThat(csv).isEqualTo("\uFEFFid,name,birthday,role,joinDate\r\n"
+                + "user1,홍길동,19900101,ADULT,2025-01-02T03:04:05\r\n"
+                + "user2,\"'=cmd,\"\"x\"\"\",,,\r\n");
+    }
+
+    @Test
+    void jsonWritesArray() throws IOException {
+        String json = export(MemberExportWriter.Format.JSON);
+
+        assertThat(json).isEqualTo("["
+                + "{\"id\":\"user1\",\"name\":\"홍길동\",\"birthday\":\"19900101\",\"role\":\"ADULT\",\"joinDate\":\"2025-01-02T03:04:05\"},"
+                + "{\"id\":\"user2\",\"name\":\"=cmd,\\\"x\\\"\",\"birthday\":null,\"role\":null,\"joinDate\":null}"
+                + "]");
+    }
+
+    @Test
+    void unknownFormatFallsBackToCsv() {
+        assertThat(MemberExportWriter.Format.from("xml")).isEqualTo(MemberExportWriter.Format.CSV);
+        assertThat(MemberExportWriter.Format.from("JSON")).isEqualTo(MemberExportWriter.Format.JSON);
+    }
+
+    private String export(MemberExportWriter.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemberExportWriter writer = MemberExportWriter.of(format, out)) {
+            writer.write(plain);
+            writer.write(tricky);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
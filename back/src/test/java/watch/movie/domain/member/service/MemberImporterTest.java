@@ -0,0 +1,155 @@
+package watch.movie.domain.member.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import watch.movie.domain.member.dto.MemberDto;
+import watch.movie.domain.member.dto.MemberImportResultDto;
+import watch.movie.domain.member.repository.MemberJdbcRepository;
+import watch.movie.security.PasswordHashingService;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MemberImporterTest {
+
+    private final PasswordHashingService hashingService = new PasswordHashingService(1, 4, 4, 3000, 1);
+    private final StubJdbcRepository jdbcRepository = new StubJdbcRepository();
+    private final MemberImporter importer = new MemberImporter(jdbcRepository, hashingService, () -> Optional.of("admin"));
+
+    @AfterEach
+    void tearDown() {
+        hashingService.shutdown();
+    }
+
+    @Test
+    void parsesPlainAndQuotedCells() {
+        assertThat(MemberImporter.parseLine("user1,홍길동,secret,19900101"))
+                .containsExactly("user1", "홍길동", "secret", "19900101");
+        assertThat(MemberImporter.parseLine("user2,\"김, \"\"철수\"\"\",\"p,w\","))
+                .containsExactly("user2", "김, \"철수\"", "p,w", "");
+    }
+
+    @Test
+    void keepsEmptyCells() {
+        assertThat(MemberImporter.parseLine(",,")).containsExactly("", "", "");
+        assertThat(MemberImporter.parseLine("")).containsExactly("");
+    }
+
+    @Test
+    void rejectsRowsThatDoNotFitMemberTable() throws Exception {
+        String csv = String.join("\n",
+                "id,name,password,birthday",
+                "user1,홍길동,secret,19900101",
+                "user2," + "가".repeat(256) + ",secret,19900101",
+                "user3,홍길동," + "p".repeat(73) + ",19900101",
+                "user4,홍길동,secret," + "1".repeat(256),
+                "user5,홍\0길동,secret,19900101",
+                // 255자까지는 저장 (surrogate pair는 한 글자)
+                "user6," + "😀".repeat(255) + "," + "비".repeat(24) + ",");
+
+        MemberImportResultDto result = importer.importCsv(csv(csv));
+
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(MemberImportResultDto.Failure::line, MemberImportResultDto.Failure::reason)
+                .containsExactly(
+                        tuple(3L, "이름 길이 초과"),
+                        tuple(4L, "비밀번호 길이 초과"),
+                        tuple(5L, "생년월일 길이 초과"),
+                        tuple(6L, "허용되지 않는 문자 포함"));
+        assertThat(jdbcRepository.stored.keySet()).containsExactlyInAnyOrder("user1", "user6");
+        assertThat(jdbcRepository.stored.get("user1").getPassword()).startsWith("$2a$04$");
+    }
+
+    @Test
+    void reportsConflictsAndRetriesFailedBatchRowByRow() throws Exception {
+        // given
+        jdbcRepository.stored.put("dup", new MemberDto());
+        jdbcRepository.broken.add("broken");
+        String csv = String.join("\n",
+                "user1,홍길동,secret,",
+                "dup,홍길동,secret,",
+                "broken,홍길동,secret,",
+                "user2,홍길동,secret,");
+
+        // when
+        MemberImportResultDto result = importer.importCsv(csv(csv));
+
+        // then
+        assertThat(jdbcRepository.batchCalls).isEqualTo(1);
+        assertThat(jdbcRepository.rowCalls).isEqualTo(4);
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(MemberImportResultDto.Failure::line, MemberImportResultDto.Failure::id)
+                .containsExactly(tuple(2L, "dup"), tuple(3L, "broken"));
+        assertThat(result.getFailures().get(0).reason()).isEqualTo("중복 아이디");
+        assertThat(result.getFailures().get(1).reason()).startsWith("저장 실패").contains("check constraint");
+        assertThat(jdbcRepository.stored.keySet()).containsExactlyInAnyOrder("dup", "user1", "user2");
+        assertThat(jdbcRepository.createdBy).containsExactly("admin");
+    }
+
+    @Test
+    void duplicatesInSuccessfulBatchAreReportedPerLine() throws Exception {
+        jdbcRepository.stored.put("dup", new MemberDto());
+
+        MemberImportResultDto result = importer.importCsv(csv("user1,홍길동,secret,\ndup,홍길동,secret,\nuser1,홍길동,secret,"));
+
+        assertThat(jdbcRepository.batchCalls).isEqualTo(1);
+        assertThat(jdbcRepository.rowCalls).isZero();
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getFailures()).extracting(MemberImportResultDto.Failure::line).containsExactly(2L, 3L);
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * member 테이블을 메모리로 흉내내는 repository
+     * broken에 있는 아이디는 DB 제약 위반으로 실패하고, 실패한 batch는 하나도 저장하지 않는다.
+     */
+    private static class StubJdbcRepository extends MemberJdbcRepository {
+
+        private final Map<String, MemberDto> stored = new HashMap<>();
+        private final Set<String> broken = new HashSet<>();
+        private final Set<String> createdBy = new HashSet<>();
+        private int batchCalls;
+        private int rowCalls;
+
+        private StubJdbcRepository() {
+            super(null);
+        }
+
+        @Override
+        public boolean insertIfAbsent(MemberDto member, String createBy) {
+            rowCalls++;
+            createdBy.add(createBy);
+            check(member);
+            return stored.putIfAbsent(member.getId(), member) == null;
+        }
+
+        @Override
+        public int[] insertAllIfAbsent(List<MemberDto> members, String createBy) {
+            batchCalls++;
+            createdBy.add(createBy);
+            members.forEach(this::check);
+            int[] counts = new int[members.size()];
+            for (int i = 0; i < members.size(); i++) {
+                counts[i] = stored.putIfAbsent(members.get(i).getId(), members.get(i)) == null ? 1 : 0;
+            }
+            return counts;
+        }
+
+        private void check(MemberDto member) {
+            if (broken.contains(member.getId())) {
+                throw new DataIntegrityViolationException("violates check constraint");
+            }
+        }
+    }
+}
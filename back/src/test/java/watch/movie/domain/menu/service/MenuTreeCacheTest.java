@@ -0,0 +1,51 @@
+package watch.movie.domain.menu.service;
+
+import org.junit.jupiter.api.Test;
+import watch.movie.base.RoleCode;
+import watch.movie.domain.menu.dto.MenuDto;
+import watch.movie.domain.menu.dto.MenuTreeDto;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuTreeCacheTest {
+
+    private final List<MenuDto> menus = List.of(
+            menu(1L, 2, "영상", null, "/video"),
+            menu(2L, 2, "드라마", null, "/video/drama"),
+            menu(3L, 1, "영화", null, "/video/movie/"),
+            menu(4L, 1, "공지사항", null, "/notices"),
+            menu(5L, 3, "성인", "ADULT", "/video/adult"),
+            menu(6L, 9, "관리자", "ADMIN", "/admin"),
+            menu(7L, 1, "회원 관리", "ADMIN", "/admin/members")
+    );
+
+    @Test
+    void anonymousSeesPublicMenusByPriority() {
+        List<MenuTreeDto> tree = MenuTreeCache.build(menus, null);
+
+        assertThat(tree).extracting(MenuTreeDto::getName).containsExactly("공지사항", "영상");
+        assertThat(tree.get(1).getChildren()).extracting(MenuTreeDto::getName).containsExactly("영화", "드라마");
+    }
+
+    @Test
+    void roleFiltersMenus() {
+        List<MenuTreeDto> adult = MenuTreeCache.build(menus, RoleCode.ADULT);
+        assertThat(adult.get(1).getChildren()).extracting(MenuTreeDto::getName).containsExactly("영화", "드라마", "성인");
+
+        List<MenuTreeDto> admin = MenuTreeCache.build(menus, RoleCode.ADMIN);
+        assertThat(admin).extracting(MenuTreeDto::getName).containsExactly("공지사항", "영상", "관리자");
+        assertThat(admin.get(2).getChildren()).extracting(MenuTreeDto::getName).containsExactly("회원 관리");
+    }
+
+    private static MenuDto menu(Long id, int priority, String name, String role, String path) {
+        MenuDto menu = new MenuDto();
+        menu.setId(id);
+        menu.setPriority(priority);
+        menu.setName(name);
+        menu.setRole(role);
+        menu.setPath(path);
+        return menu;
+    }
+}
@@ -0,0 +1,122 @@
+package watch.movie.domain.notice.repository;
+
+import com.querydsl.core.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import watch.movie.base.KeysetCursor;
+import watch.movie.domain.notice.dto.NoticeSummaryDto;
+import watch.movie.domain.notice.dto.cond.NoticeSearchCond;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoticeSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final StubQueryRepository queryRepository = new StubQueryRepository();
+    private final NoticeSearchIndex searchIndex = new NoticeSearchIndex(queryRepository);
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.rebuild();
+    }
+
+    @Test
+    public void longQueryIsVerifiedAgainstStoredNotice() throws Exception {
+        // given : 1번은 "가나다"와 "나다라"가 떨어져 있음
+        put(1L, "가나다 그리고 나다라", 1);
+        put(2L, "가나다라", 2);
+        put(3L, "가나다라 공지", 3);
+
+        // when
+        List<NoticeSummaryDto> first = searchIndex.search(title("가나다라"), 0, 1);
+        List<NoticeSummaryDto> second = searchIndex.search(title("가나다라"), 1, 1);
+
+        // then : 확인에서 걸러진 후보는 offset에도 세지 않음
+        assertThat(first).extracting(NoticeSummaryDto::getId).containsExactly(3L);
+        assertThat(second).extracting(NoticeSummaryDto::getId).containsExactly(2L);
+        assertThat(searchIndex.search(title("가나다라"), 2, 10)).isEmpty();
+    }
+
+    @Test
+    public void tiesAreOrderedByRegistDateNotIndexOrder() throws Exception {
+        put(1L, "점검 안내", 3);
+        put(2L, "점검 안내", 1);
+        put(3L, "점검 안내", 1);
+        // 예전 공지사항을 수정해도 앞으로 오지 않음
+        put(2L, "점검 안내", 1);
+
+        assertThat(searchIndex.search(title("점검"), 0, 10)).extracting(NoticeSummaryDto::getId).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    public void cursorSearchUsesRegistDateOrder() throws Exception {
+        put(1L, "점검 점검 점검", 1);
+        put(2L, "점검 공지", 3);
+        put(3L, "점검 공지", 2);
+        put(4L, "서버 점검 공지", 2);
+        put(5L, "안내", 4);
+
+        List<NoticeSummaryDto> first = searchIndex.searchByCursor(title("점검"), null, 2);
+        NoticeSummaryDto last = first.get(first.size() - 1);
+        List<NoticeSummaryDto> second = searchIndex.searchByCursor(title("점검"), new KeysetCursor(last.getRegistDate(), last.getId()), 2);
+
+        assertThat(first).extracting(NoticeSummaryDto::getId).containsExactly(2L, 4L);
+        assertThat(second).extracting(NoticeSummaryDto::getId).containsExactly(3L, 1L);
+        // 4글자 이상은 확인을 통과한 것만
+        assertThat(searchIndex.searchByCursor(title("점검 공지"), null, 10)).extracting(NoticeSummaryDto::getId).containsExactly(2L, 4L, 3L);
+    }
+
+    @Test
+    public void supportsOnlySearchableConditions() throws Exception {
+        assertThat(searchIndex.supports(title("점검"))).isTrue();
+        assertThat(searchIndex.supports(title(" 점 "))).isFalse();
+        assertThat(searchIndex.supports(new NoticeSearchCond())).isFalse();
+    }
+
+    private void put(Long id, String title, int days) {
+        NoticeChangedEvent event = new NoticeChangedEvent(NoticeChangedEvent.Type.CREATED, id, title, "내용", "admin", BASE.plusDays(days));
+        queryRepository.stored.put(id, event);
+        searchIndex.onNoticeChanged(event);
+    }
+
+    private static NoticeSearchCond title(String title) {
+        NoticeSearchCond cond = new NoticeSearchCond();
+        cond.setTitle(title);
+        return cond;
+    }
+
+    /**
+     * 제목 검색 조건만 흉내내는 repository (DB처럼 대소문자를 구분하지 않는 부분 문자열 비교)
+     */
+    private static class StubQueryRepository extends NoticeQueryRepository {
+
+        private final Map<Long, NoticeChangedEvent> stored = new HashMap<>();
+
+        private StubQueryRepository() {
+            super(null);
+        }
+
+        @Override
+        public List<Tuple> findAllForIndex(Long lastId, int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<NoticeSummaryDto> findAllByIds(List<Long> ids, NoticeSearchCond cond) {
+            String query = cond.getTitle().strip().toLowerCase(Locale.ROOT);
+            List<NoticeSummaryDto> rows = new ArrayList<>();
+            for (Long id : ids) {
+                NoticeChangedEvent notice = stored.get(id);
+                if (notice != null && notice.getTitle().toLowerCase(Locale.ROOT).contains(query)) {
+                    rows.add(new NoticeSummaryDto(id, notice.getTitle(), notice.getAuthor(), notice.getContent(), 0L, notice.getCreateDate()));
+                }
+            }
+            return rows;
+        }
+    }
+}
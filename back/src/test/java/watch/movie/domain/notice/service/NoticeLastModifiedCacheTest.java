@@ -0,0 +1,94 @@
+package watch.movie.domain.notice.service;
+
+import org.junit.jupiter.api.Test;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+import watch.movie.domain.notice.repository.NoticeQueryRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoticeLastModifiedCacheTest {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final LocalDateTime SECOND = FIRST.plusHours(1);
+
+    private final StubQueryRepository queryRepository = new StubQueryRepository();
+    private final NoticeLastModifiedCache cache = new NoticeLastModifiedCache(queryRepository);
+
+    @Test
+    public void queriesOnlyAfterNoticeChanges() throws Exception {
+        // given
+        queryRepository.lastModified = FIRST;
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get()).isEqualTo(FIRST);
+        }
+
+        // then
+        assertThat(queryRepository.queries).isEqualTo(1);
+
+        queryRepository.lastModified = SECOND;
+        cache.onNoticeChanged(changed());
+        assertThat(cache.get()).isEqualTo(SECOND);
+        assertThat(cache.get()).isEqualTo(SECOND);
+        assertThat(queryRepository.queries).isEqualTo(2);
+    }
+
+    @Test
+    public void emptyTableIsCachedToo() throws Exception {
+        assertThat(cache.get()).isNull();
+        assertThat(cache.get()).isNull();
+        assertThat(queryRepository.queries).isEqualTo(1);
+    }
+
+    @Test
+    public void changeDuringQueryIsNotLost() throws Exception {
+        // given : 예전 값을 읽는 도중에 수정이 commit됨
+        queryRepository.lastModified = FIRST;
+        queryRepository.duringQuery = () -> {
+            queryRepository.lastModified = SECOND;
+            cache.onNoticeChanged(changed());
+        };
+
+        // when
+        LocalDateTime stale = cache.get();
+
+        // then : 읽은 값은 그대로 반환하되 캐시로 쓰지 않음
+        assertThat(stale).isEqualTo(FIRST);
+        assertThat(cache.get()).isEqualTo(SECOND);
+        assertThat(cache.get()).isEqualTo(SECOND);
+        assertThat(queryRepository.queries).isEqualTo(2);
+    }
+
+    private static NoticeChangedEvent changed() {
+        return new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, 1L, "제목", "내용", "admin", FIRST);
+    }
+
+    /**
+     * 마지막 수정일시 조회만 흉내내는 repository
+     */
+    private static class StubQueryRepository extends NoticeQueryRepository {
+
+        private LocalDateTime lastModified;
+        private Runnable duringQuery;
+        private int queries;
+
+        private StubQueryRepository() {
+            super(null);
+        }
+
+        @Override
+        public LocalDateTime findLastModified() {
+            queries++;
+            LocalDateTime result = lastModified;
+            if (duringQuery != null) {
+                Runnable action = duringQuery;
+                duringQuery = null;
+                action.run();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package watch.movie.domain.notice.service;
+
+import org.junit.jupiter.api.Test;
+import watch.movie.domain.notice.dto.NoticeDto;
+import watch.movie.domain.notice.event.NoticeChangedEvent;
+import watch.movie.domain.notice.repository.NoticeJpaRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoticeViewCounterTest {
+
+    private final Map<Long, Long> storedViews = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private boolean failNext;
+
+    private final NoticeDetailCache detailCache = new NoticeDetailCache(100, 300);
+    private final NoticeViewCounter viewCounter = new NoticeViewCounter(jpaRepository(), detailCache);
+
+    @Test
+    public void flushAddsViewsToCachedNoticeWithoutReloading() throws Exception {
+        // given
+        storedViews.put(1L, 10L);
+        assertThat(cached(1L).getView()).isEqualTo(10);
+        for (int i = 0; i < 3; i++) viewCounter.increment(1L);
+        assertThat(viewCounter.pending(1L)).isEqualTo(3);
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertThat(storedViews.get(1L)).isEqualTo(13);
+        assertThat(viewCounter.pending(1L)).isZero();
+        assertThat(cached(1L).getView()).isEqualTo(13);
+        assertThat(loads.get()).isEqualTo(1);
+
+        // 반영할 조회수가 없으면 DB도 캐시도 그대로
+        viewCounter.flush();
+        assertThat(storedViews.get(1L)).isEqualTo(13);
+        assertThat(cached(1L).getView()).isEqualTo(13);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void failedFlushKeepsPendingViews() throws Exception {
+        storedViews.put(1L, 10L);
+        cached(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+
+        failNext = true;
+        viewCounter.flush();
+        assertThat(storedViews.get(1L)).isEqualTo(10);
+        assertThat(viewCounter.pending(1L)).isEqualTo(2);
+        assertThat(cached(1L).getView()).isEqualTo(10);
+
+        viewCounter.increment(1L);
+        viewCounter.flush();
+        assertThat(storedViews.get(1L)).isEqualTo(13);
+        assertThat(viewCounter.pending(1L)).isZero();
+        assertThat(cached(1L).getView()).isEqualTo(13);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void flushDoesNotLoadUncachedNotice() throws Exception {
+        storedViews.put(2L, 5L);
+        viewCounter.increment(2L);
+
+        viewCounter.flush();
+
+        assertThat(storedViews.get(2L)).isEqualTo(6);
+        assertThat(loads.get()).isZero();
+        assertThat(cached(2L).getView()).isEqualTo(6);
+    }
+
+    @Test
+    public void onlyNoticeChangeInvalidatesCache() throws Exception {
+        storedViews.put(1L, 10L);
+        cached(1L);
+        viewCounter.increment(1L);
+        viewCounter.flush();
+        assertThat(loads.get()).isEqualTo(1);
+
+        detailCache.onNoticeChanged(new NoticeChangedEvent(NoticeChangedEvent.Type.UPDATED, 1L, "제목", "내용", "admin", LocalDateTime.now()));
+
+        assertThat(cached(1L).getView()).isEqualTo(11);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private NoticeDto cached(Long id) {
+        return detailCache.get(id, key -> {
+            loads.incrementAndGet();
+            return new NoticeDto(key, "제목", "admin", "내용", storedViews.get(key), LocalDateTime.now(), LocalDateTime.now());
+        });
+    }
+
+    /**
+     * addView만 흉내내는 repository
+     */
+    private NoticeJpaRepository jpaRepository() {
+        return (NoticeJpaRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{NoticeJpaRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("addView")) throw new UnsupportedOperationException(method.getName());
+                    if (failNext) {
+                        failNext = false;
+                        throw new IllegalStateException("db down");
+                    }
+                    storedViews.merge((Long) args[0], (Long) args[1], Long::sum);
+                    return 1;
+                });
+    }
+}
@@ -0,0 +1,58 @@
+package watch.movie.domain.requireBoard.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import watch.movie.base.SliceResponse;
+import watch.movie.domain.requireBoard.dto.RequireBoardSummaryDto;
+import watch.movie.domain.requireBoard.dto.cond.RequireBoardSearchCond;
+import watch.movie.entity.Member;
+import watch.movie.entity.RequireBoard;
+
+@SpringBootTest
+@Transactional
+class RequireBoardServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    RequireBoardService requireBoardService;
+
+    @Test
+    public void listIssuesSingleQuery() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Member member = Member.of("요청자" + i, "이름" + i, "비밀번호", "생년월일");
+            em.persist(member);
+            em.persist(RequireBoard.of(member, "요청 " + i, "내용 " + i));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        SliceResponse<RequireBoardSummaryDto> first = requireBoardService.findAllByCursor(new RequireBoardSearchCond(), null, 3);
+
+        // then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(first.getContent()).hasSize(3);
+        Assertions.assertThat(first.getContent()).allMatch(board -> board.getMemberName() != null);
+        Assertions.assertThat(first.isHasNext()).isTrue();
+
+        statistics.clear();
+        SliceResponse<RequireBoardSummaryDto> second = requireBoardService.findAllByCursor(new RequireBoardSearchCond(), first.getNextCursor(), 3);
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(second.getContent()).hasSizeGreaterThanOrEqualTo(2);
+    }
+}
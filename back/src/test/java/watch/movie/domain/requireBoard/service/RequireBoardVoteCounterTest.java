@@ -0,0 +1,150 @@
+package watch.movie.domain.requireBoard.service;
+
+import org.junit.jupiter.api.Test;
+import watch.movie.domain.requireBoard.event.RequireBoardVotedEvent;
+import watch.movie.domain.requireBoard.repository.RequireBoardJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequireBoardVoteCounterTest {
+
+    private final StubJdbcRepository jdbcRepository = new StubJdbcRepository();
+    private final RequireBoardVoteCounter counter = new RequireBoardVoteCounter(jdbcRepository);
+
+    @Test
+    public void flushSendsOnlyUnflushedVotes() throws Exception {
+        // given
+        vote(1L, 3);
+        vote(2L, 1);
+        assertThat(counter.pending(1L)).isEqualTo(3);
+
+        // when
+        counter.flush();
+
+        // then
+        assertThat(jdbcRepository.flushed).containsExactly(Map.of(1L, 3L, 2L, 1L));
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.pending(2L)).isZero();
+
+        vote(1L, 1);
+        counter.flush();
+        assertThat(jdbcRepository.flushed.get(1)).isEqualTo(Map.of(1L, 1L));
+
+        // 새 투표가 없으면 DB에 보내지 않음
+        counter.flush();
+        assertThat(jdbcRepository.flushed).hasSize(2);
+        assertThat(jdbcRepository.stored).isEqualTo(Map.of(1L, 4L, 2L, 1L));
+    }
+
+    @Test
+    public void failedFlushIsRetriedWithLaterVotes() throws Exception {
+        vote(1L, 2);
+        jdbcRepository.failNext = true;
+        counter.flush();
+
+        assertThat(jdbcRepository.stored).isEmpty();
+        assertThat(counter.pending(1L)).isEqualTo(2);
+
+        vote(1L, 1);
+        counter.flush();
+        assertThat(jdbcRepository.stored).isEqualTo(Map.of(1L, 3L));
+        assertThat(counter.pending(1L)).isZero();
+    }
+
+    @Test
+    public void loadRebasesOnEarlierFlushes() throws Exception {
+        // given : 시작 전 DB 값 10, 5
+        jdbcRepository.stored.put(1L, 10L);
+        jdbcRepository.stored.put(2L, 5L);
+        // load 전에 받은 투표 2건은 반영, 1건은 아직 반영 전
+        vote(1L, 2);
+        counter.flush();
+        vote(1L, 1);
+
+        // when
+        counter.load();
+
+        // then : DB 12 (반영한 2건 포함) + 반영 전 1건 = 13, 반영한 2건을 두 번 세지 않음
+        assertThat(counter.topIds(10)).containsExactly(1L, 2L);
+        assertThat(counter.pending(1L)).isEqualTo(1);
+
+        vote(2L, 8);
+        counter.flush();
+        // 2번은 5 + 8 = 13, 1번은 13 + 0, 같으면 순서는 상관 없음
+        assertThat(counter.topIds(10)).containsExactlyInAnyOrder(1L, 2L);
+        vote(2L, 1);
+        counter.flush();
+        assertThat(counter.topIds(10)).containsExactly(2L, 1L);
+        assertThat(jdbcRepository.stored).isEqualTo(Map.of(1L, 13L, 2L, 14L));
+    }
+
+    @Test
+    public void topIdsKeepsOnlyMaxTop() throws Exception {
+        // given : id가 클수록 투표가 많음
+        for (long id = 1; id <= 250; id++) {
+            jdbcRepository.stored.put(id, id);
+        }
+        jdbcRepository.stored.put(251L, 0L);
+
+        // when
+        counter.load();
+
+        // then
+        List<Long> top = counter.topIds(Integer.MAX_VALUE);
+        assertThat(top).hasSize(RequireBoardVoteCounter.MAX_TOP);
+        for (int i = 0; i < top.size(); i++) {
+            assertThat(top.get(i)).isEqualTo(250L - i);
+        }
+        assertThat(counter.topIds(3)).containsExactly(250L, 249L, 248L);
+
+        // 순위 밖이던 게시글도 투표를 받으면 들어옴
+        vote(1L, 300);
+        counter.flush();
+        assertThat(counter.topIds(2)).containsExactly(1L, 250L);
+        assertThat(counter.topIds(Integer.MAX_VALUE)).hasSize(RequireBoardVoteCounter.MAX_TOP).doesNotContain(151L);
+    }
+
+    private void vote(Long boardId, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.onVoted(new RequireBoardVotedEvent(boardId));
+        }
+    }
+
+    /**
+     * vote_count 컬럼만 메모리로 흉내내는 repository
+     */
+    private static class StubJdbcRepository extends RequireBoardJdbcRepository {
+
+        private final Map<Long, Long> stored = new HashMap<>();
+        private final List<Map<Long, Long>> flushed = new ArrayList<>();
+        private boolean failNext;
+
+        private StubJdbcRepository() {
+            super(null);
+        }
+
+        @Override
+        public void addVoteCounts(Map<Long, Long> deltas) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("db down");
+            }
+            flushed.add(Map.copyOf(deltas));
+            deltas.forEach((id, delta) -> stored.merge(id, delta, Long::sum));
+        }
+
+        @Override
+        public Map<Long, Long> findVoteCounts() {
+            Map<Long, Long> counts = new HashMap<>();
+            stored.forEach((id, count) -> {
+                if (count > 0) counts.put(id, count);
+            });
+            return counts;
+        }
+    }
+}
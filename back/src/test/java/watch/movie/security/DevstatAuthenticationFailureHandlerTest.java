@@ -0,0 +1,47 @@
+package watch.movie.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DevstatAuthenticationFailureHandlerTest {
+
+    private final DevstatAuthenticationFailureHandler handler = new DevstatAuthenticationFailureHandler(new JsonResponseWriter());
+
+    @Test
+    public void hashingOverloadIsServiceUnavailable() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest(), response,
+                new PasswordHashingUnavailableException("password hashing queue is full", 3, null));
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+
+    @Test
+    public void throttledLoginCarriesRetryAfter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest(), response,
+                new LoginThrottledException("too many login attempts for user", 42));
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("42");
+    }
+
+    @Test
+    public void wrongPasswordIsUnauthorized() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest(), response,
+                new BadCredentialsException("password is not matched"));
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNull();
+    }
+}
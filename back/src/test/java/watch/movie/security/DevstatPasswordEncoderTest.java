@@ -0,0 +1,77 @@
+package watch.movie.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.security.MessageDigest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DevstatPasswordEncoderTest {
+
+    private final PasswordHashingService hashingService = new PasswordHashingService(1, 4, 5, 3000, 1);
+    private final DevstatPasswordEncoder encoder = new DevstatPasswordEncoder(hashingService);
+
+    @AfterEach
+    public void tearDown() {
+        hashingService.shutdown();
+    }
+
+    @Test
+    public void legacyEncodeMatchesStoredFormat() throws Exception {
+        // 0x04, 0x0D 처럼 0x10 미만인 바이트는 앞자리가 공백
+        assertThat(DevstatPasswordEncoder.legacyEncode("password"))
+                .isEqualTo("5E884898DA28 47151D0E56F8DC6292773603D D6AABBDD62A11EF721D1542D8");
+
+        boolean paddedByteSeen = false;
+        for (int i = 0; i < 500; i++) {
+            String rawPassword = "password" + i;
+            String expected = formatLikeBefore(rawPassword);
+            assertThat(DevstatPasswordEncoder.legacyEncode(rawPassword)).isEqualTo(expected);
+            paddedByteSeen |= expected.indexOf(' ') >= 0;
+        }
+        assertThat(paddedByteSeen).isTrue();
+    }
+
+    @Test
+    public void legacyHashIsMatchedAndMarkedForUpgrade() throws Exception {
+        String legacy = DevstatPasswordEncoder.legacyEncode("password");
+
+        assertThat(DevstatPasswordEncoder.isLegacy(legacy)).isTrue();
+        assertThat(encoder.matches("password", legacy)).isTrue();
+        assertThat(encoder.matches("passwore", legacy)).isFalse();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    public void bcryptHashIsNotLegacy() throws Exception {
+        String current = encoder.encode("password");
+        String weaker = new BCryptPasswordEncoder(4).encode("password");
+        String stronger = new BCryptPasswordEncoder(6).encode("password");
+
+        assertThat(DevstatPasswordEncoder.isLegacy(current)).isFalse();
+        assertThat(encoder.matches("password", current)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(stronger)).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+
+        // 길이는 같아도 소문자나 다른 문자가 섞이면 이전 방식이 아님
+        assertThat(DevstatPasswordEncoder.isLegacy("5e884898da28 47151d0e56f8dc6292773603d d6aabbdd62a11ef721d1542d8")).isFalse();
+        assertThat(DevstatPasswordEncoder.isLegacy("5E884898DA28")).isFalse();
+    }
+
+    /**
+     * 변경 전 DevstatPasswordEncoder.encode와 같은 방식
+     */
+    private static String formatLikeBefore(String rawPassword) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        md.update(rawPassword.getBytes());
+        StringBuilder sb = new StringBuilder();
+        for (byte b : md.digest()) {
+            sb.append(String.format("%2X", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package watch.movie.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginThrottleTest {
+
+    private static final long WINDOW = 60_000L;
+    private static final long START = WINDOW * 100;
+
+    @Test
+    public void retryAfterWaitsForPreviousWindowToDecay() throws Exception {
+        // given : 한 구간에 11번 시도해서 마지막 시도가 거절됨
+        LoginThrottle throttle = throttledAtWindowStart();
+
+        // when
+        long retryAfter = throttle.loginIdRetryAfterSeconds("아이디", START);
+
+        // then : 다음 구간이 시작되어도 직전 구간의 11번이 거의 그대로 반영되므로 60초로는 부족
+        assertThat(retryAfter).isEqualTo(66);
+        assertThat(throttledAtWindowStart().tryAcquireLoginId("아이디", START + WINDOW)).isFalse();
+        assertThat(throttledAtWindowStart().tryAcquireLoginId("아이디", START + (retryAfter - 1) * 1000)).isFalse();
+        assertThat(throttledAtWindowStart().tryAcquireLoginId("아이디", START + retryAfter * 1000)).isTrue();
+    }
+
+    @Test
+    public void retryAfterWithinCurrentWindow() throws Exception {
+        // given : 직전 구간에 10번, 현재 구간(10% 지점)에 2번 시도해서 두 번째가 거절됨
+        LoginThrottle throttle = new LoginThrottle(1024, 60, 10, 50);
+        for (int i = 0; i < 10; i++) {
+            assertThat(throttle.tryAcquireLoginId("아이디", START)).isTrue();
+        }
+        long now = START + WINDOW + WINDOW / 10;
+        assertThat(throttle.tryAcquireLoginId("아이디", now)).isTrue();
+        assertThat(throttle.tryAcquireLoginId("아이디", now)).isFalse();
+
+        // when
+        long retryAfter = throttle.loginIdRetryAfterSeconds("아이디", now);
+
+        // then : 직전 구간의 비중이 줄어드는 현재 구간 안에서 다시 허용됨
+        assertThat(retryAfter).isEqualTo(7);
+        assertThat(throttle.tryAcquireLoginId("아이디", now + retryAfter * 1000)).isTrue();
+    }
+
+    @Test
+    public void clientIpAndLoginIdHaveSeparateLimits() throws Exception {
+        LoginThrottle throttle = new LoginThrottle(1024, 60, 1, 3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(throttle.tryAcquireClientIp("10.0.0.1", START)).isTrue();
+        }
+        assertThat(throttle.tryAcquireClientIp("10.0.0.1", START)).isFalse();
+        assertThat(throttle.clientIpRetryAfterSeconds("10.0.0.1", START)).isPositive();
+
+        // 시도가 없으면 바로 가능 (최소 1초)
+        assertThat(throttle.loginIdRetryAfterSeconds("아이디", START)).isEqualTo(1);
+        assertThat(throttle.tryAcquireLoginId("아이디", START)).isTrue();
+    }
+
+    private static LoginThrottle throttledAtWindowStart() {
+        LoginThrottle throttle = new LoginThrottle(1024, 60, 10, 50);
+        for (int i = 0; i < 10; i++) {
+            assertThat(throttle.tryAcquireLoginId("아이디", START)).isTrue();
+        }
+        assertThat(throttle.tryAcquireLoginId("아이디", START)).isFalse();
+        return throttle;
+    }
+}
@@ -0,0 +1,72 @@
+package watch.movie.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW = 60_000L;
+
+    @Test
+    public void countWithinWindow() throws Exception {
+        // given
+        SlidingWindowCounter counter = new SlidingWindowCounter(1024, 2, WINDOW);
+        long now = WINDOW * 100;
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            counter.incrementAndEstimate("아이디", now + i);
+        }
+
+        // then
+        assertThat(counter.estimate("아이디", now + 10)).isEqualTo(5);
+        assertThat(counter.estimate("다른아이디", now + 10)).isEqualTo(0);
+    }
+
+    @Test
+    public void previousWindowDecays() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(1024, 2, WINDOW);
+        long start = WINDOW * 100;
+        for (int i = 0; i < 10; i++) {
+            counter.incrementAndEstimate("아이디", start);
+        }
+
+        // 다음 구간의 절반이 지나면 직전 구간 카운트는 절반만 반영
+        assertThat(counter.estimate("아이디", start + WINDOW + WINDOW / 2)).isEqualTo(5);
+        // 두 구간이 지나면 모두 사라짐
+        assertThat(counter.estimate("아이디", start + WINDOW * 2)).isEqualTo(0);
+        assertThat(counter.incrementAndEstimate("아이디", start + WINDOW * 3)).isEqualTo(1);
+    }
+
+    @Test
+    public void hashCodeCollisionsDoNotShareCounts() throws Exception {
+        // String.hashCode가 모두 같은 아이디
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB"};
+        assertThat(keys).extracting(String::hashCode).containsOnly("AaAa".hashCode());
+
+        SlidingWindowCounter counter = new SlidingWindowCounter(1024, 2, WINDOW);
+        long now = WINDOW * 100;
+        for (int i = 0; i < 10; i++) {
+            counter.incrementAndEstimate("AaAa", now);
+        }
+
+        // 공격자가 같은 hashCode의 아이디로 시도해도 다른 아이디의 횟수는 늘지 않음
+        assertThat(counter.estimate("AaAa", now)).isEqualTo(10);
+        assertThat(counter.estimate("AaBB", now)).isZero();
+        assertThat(counter.estimate("BBAa", now)).isZero();
+        assertThat(counter.estimate("BBBB", now)).isZero();
+        assertThat(counter.estimate("Aa", now)).isZero();
+        assertThat(counter.estimate("BB", now)).isZero();
+    }
+
+    @Test
+    public void rowsUseIndependentHashes() throws Exception {
+        // 같은 key라도 seed가 다르면 다른 값, hashCode가 같아도 다른 값
+        assertThat(SlidingWindowCounter.hash("Aa", 1)).isNotEqualTo(SlidingWindowCounter.hash("Aa", 2));
+        assertThat(SlidingWindowCounter.hash("Aa", 1)).isNotEqualTo(SlidingWindowCounter.hash("BB", 1));
+        // 홀수 길이의 마지막 문자와 길이도 반영
+        assertThat(SlidingWindowCounter.hash("abc", 1)).isNotEqualTo(SlidingWindowCounter.hash("abd", 1));
+        assertThat(SlidingWindowCounter.hash("", 1)).isNotEqualTo(SlidingWindowCounter.hash("\0", 1));
+    }
+}
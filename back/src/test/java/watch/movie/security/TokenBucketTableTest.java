@@ -0,0 +1,105 @@
+package watch.movie.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTableTest {
+
+    @Test
+    public void refillIsCappedAtCapacity() throws Exception {
+        // given
+        TokenBucketTable table = new TokenBucketTable(64, 5, 2, 60_000);
+        long now = System.currentTimeMillis();
+
+        // when
+        assertThat(table.tryAcquire("아이디", 5, now)).isZero();
+
+        // then
+        // 1초 뒤에는 2개만 충전
+        assertThat(table.tryAcquire("아이디", 2, now + 1000)).isZero();
+        assertThat(table.tryAcquire("아이디", 1, now + 1000)).isPositive();
+        // 오래 쉬어도 최대 5개
+        assertThat(table.tryAcquire("아이디", 5, now + 3_600_000)).isZero();
+        assertThat(table.tryAcquire("아이디", 1, now + 3_600_000)).isPositive();
+    }
+
+    @Test
+    public void retryAfterIsTimeUntilEnoughTokens() throws Exception {
+        TokenBucketTable table = new TokenBucketTable(64, 10, 4, 60_000);
+        long now = System.currentTimeMillis();
+        table.tryAcquire("아이디", 10, now);
+
+        // 초당 4개 충전이므로 1개는 250ms, 3개는 750ms
+        assertThat(table.tryAcquire("아이디", 1, now)).isEqualTo(250);
+        assertThat(table.tryAcquire("아이디", 3, now)).isEqualTo(750);
+        // 100ms 동안 0.4개가 충전되었으므로 1개까지 150ms
+        assertThat(table.tryAcquire("아이디", 1, now + 100)).isEqualTo(150);
+        // 최대 토큰보다 많이 요청하면 기다려도 안 됨
+        assertThat(table.tryAcquire("아이디", 11, now)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void busyBucketsAreNotEvictedOrShared() throws Exception {
+        // 최소 크기(16칸) 테이블에 훨씬 많은 key가 한꺼번에 들어옴
+        TokenBucketTable table = new TokenBucketTable(8, 2, 1, 10_000);
+        long now = System.currentTimeMillis();
+
+        // 자리가 없어도 key마다 자기 bucket을 받음
+        for (int i = 0; i < 200; i++) {
+            assertThat(table.tryAcquire("key-" + i, 2, now)).isZero();
+        }
+        assertThat(table.overflowSize()).isEqualTo(200 - 16);
+        for (int i = 0; i < 200; i++) {
+            assertThat(table.tryAcquire("key-" + i, 2, now + 10)).isPositive();
+        }
+
+        // idle 시간이 지나면 자리를 다시 사용
+        assertThat(table.tryAcquire("새로운 key", 2, now + 10_000)).isZero();
+        assertThat(table.tryAcquire("새로운 key", 1, now + 10_000)).isPositive();
+    }
+
+    @Test
+    public void exhaustedKeyDoesNotThrottleUnrelatedKey() throws Exception {
+        TokenBucketTable table = new TokenBucketTable(8, 3, 1, 60_000);
+        long now = System.currentTimeMillis();
+        // 테이블(16칸)을 모두 사용 중으로 만들어 같은 탐색 범위에 빈 자리가 없게 함
+        for (int i = 0; i < 16; i++) {
+            table.tryAcquire("busy-" + i, 1, now);
+        }
+
+        assertThat(table.tryAcquire("공격자", 3, now)).isZero();
+        assertThat(table.tryAcquire("공격자", 1, now)).isPositive();
+
+        assertThat(table.tryAcquire("회원", 3, now)).isZero();
+        assertThat(table.tryAcquire("회원", 1, now)).isPositive();
+        for (int i = 0; i < 16; i++) {
+            assertThat(table.tryAcquire("busy-" + i, 2, now)).isZero();
+        }
+    }
+
+    @Test
+    public void idleOverflowBucketsAreSwept() throws Exception {
+        TokenBucketTable table = new TokenBucketTable(8, 1, 1, 1000);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 2000; i++) {
+            table.tryAcquire("old-" + i, 1, now);
+        }
+        assertThat(table.overflowSize()).isEqualTo(2000 - 16);
+
+        // 오래 쉰 bucket은 다음 정리 때 제거되어 새 key의 bucket만 남음
+        for (int i = 0; i < 2000; i++) {
+            table.tryAcquire("new-" + i, 1, now + 60_000);
+        }
+        assertThat(table.overflowSize()).isEqualTo(2000 - 16);
+        assertThat(table.tryAcquire("new-1999", 1, now + 60_000)).isPositive();
+    }
+
+    @Test
+    public void rejectsCapacityThatDoesNotFitInState() throws Exception {
+        // 남은 토큰 x 1000이 24bit를 넘으면 안 됨
+        assertThatThrownBy(() -> new TokenBucketTable(64, 16_778, 1, 1000)).isInstanceOf(IllegalArgumentException.class);
+        new TokenBucketTable(64, 16_777, 1, 1000);
+    }
+}
@@ -0,0 +1,95 @@
+package watch.movie.utility;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import watch.movie.entity.Member;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtFastVerifierTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key";
+
+    private Key key;
+    private JwtFastVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil.init(SECRET);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        verifier = new JwtFastVerifier(key);
+    }
+
+    @Test
+    public void verifyIssuedToken() throws Exception {
+        // given
+        String token = JwtUtil.createJwtToken(Member.of("아이디", "이름", "비밀번호", "생년월일"));
+
+        // when
+        JwtPayload payload = verifier.verify(token);
+
+        // then
+        assertThat(payload).isNotNull();
+        assertThat(payload.getLoginId()).isEqualTo("아이디");
+        assertThat(payload.getRole()).isNull();
+        assertThat(payload.getExpiration() * 1000L).isGreaterThan(System.currentTimeMillis());
+        assertThat(JwtUtil.getUserIdFromToken(token)).isEqualTo("아이디");
+    }
+
+    @Test
+    public void readRoleClaim() throws Exception {
+        String token = Jwts.builder()
+                .setClaims(Map.of("loginId", "admin", "role", "ADMIN"))
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        JwtPayload payload = verifier.verify(token);
+
+        assertThat(payload.getRole()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    public void rejectTamperedSignature() throws Exception {
+        String token = JwtUtil.createJwtToken(Member.of("아이디", "이름", "비밀번호", "생년월일"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> verifier.verify(tampered)).isInstanceOf(SignatureException.class);
+        assertThat(JwtUtil.verifyToken(tampered)).isNull();
+    }
+
+    @Test
+    public void rejectExpiredToken() throws Exception {
+        String token = Jwts.builder()
+                .setClaims(Map.of("loginId", "아이디"))
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    public void fallbackForUnsupportedShape() throws Exception {
+        // 중첩된 클래임은 전용 검증기가 처리하지 않고 JJWT로 넘긴다
+        String token = Jwts.builder()
+                .setClaims(Map.of("loginId", "아이디", "profile", Map.of("age", 20)))
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(verifier.verify(token)).isNull();
+        assertThat(JwtUtil.getUserIdFromToken(token)).isEqualTo("아이디");
+    }
+}